@@ -0,0 +1,106 @@
+package com.colonygenesis.building;
+
+import com.colonygenesis.map.Tile;
+import com.colonygenesis.resource.ResourceType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A planned set of building placements that is validated, paid for
+ * and registered as a single transaction.
+ */
+public class Blueprint {
+    private final String name;
+    private final List<Placement> placements;
+
+    public Blueprint(String name) {
+        this.name = Objects.requireNonNull(name, "Blueprint name cannot be null");
+        this.placements = new ArrayList<>();
+    }
+
+    /**
+     * Adds a building placement to this blueprint.
+     *
+     * @param building The building to place
+     * @param tile The tile to place it on
+     * @return This blueprint, for chaining
+     */
+    public Blueprint add(Building building, Tile tile) {
+        placements.add(new Placement(building, tile));
+        return this;
+    }
+
+    /**
+     * Calculates the combined construction cost of every placement.
+     *
+     * @return A map of resources to their summed cost
+     */
+    public Map<ResourceType, Integer> getTotalCost() {
+        Map<ResourceType, Integer> total = new EnumMap<>(ResourceType.class);
+
+        for (Placement placement : placements) {
+            if (placement.getBuilding() == null) {
+                continue;
+            }
+
+            for (Map.Entry<ResourceType, Integer> entry : placement.getBuilding().getConstructionCost().entrySet()) {
+                total.merge(entry.getKey(), entry.getValue(), Integer::sum);
+            }
+        }
+
+        return total;
+    }
+
+    /**
+     * Gets the placements in this blueprint.
+     */
+    public List<Placement> getPlacements() {
+        return Collections.unmodifiableList(placements);
+    }
+
+    /**
+     * Gets the number of placements in this blueprint.
+     */
+    public int size() {
+        return placements.size();
+    }
+
+    public boolean isEmpty() {
+        return placements.isEmpty();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "Blueprint[" + name + ", placements=" + placements.size() + "]";
+    }
+
+    /**
+     * A single building/tile pair within a blueprint.
+     */
+    public static class Placement {
+        private final Building building;
+        private final Tile tile;
+
+        public Placement(Building building, Tile tile) {
+            this.building = building;
+            this.tile = tile;
+        }
+
+        public Building getBuilding() {
+            return building;
+        }
+
+        public Tile getTile() {
+            return tile;
+        }
+    }
+}
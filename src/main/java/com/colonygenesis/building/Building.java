@@ -1,13 +1,17 @@
 package com.colonygenesis.building;
 
+import com.colonygenesis.core.StateHash;
 import com.colonygenesis.event.EventBus;
+import com.colonygenesis.event.GameEvent;
 import com.colonygenesis.event.events.BuildingEvent;
 import com.colonygenesis.map.Tile;
 import com.colonygenesis.map.TerrainType;
 import com.colonygenesis.resource.ResourceType;
 import com.colonygenesis.util.LoggerUtils;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -15,7 +19,6 @@ import java.util.logging.Logger;
 
 public abstract class Building {
     private static final Logger LOGGER = LoggerUtils.getLogger(Building.class);
-    private final EventBus eventBus = EventBus.getInstance();
 
     // Basic building info
     protected final String name;
@@ -34,6 +37,7 @@ public abstract class Building {
 
     // Building placement
     protected Tile location;
+    private EventBus eventBus; // The bus of the game this building was placed in
 
     public Building(String name, String description, BuildingType type, int constructionTime) {
         this.name = Objects.requireNonNull(name, "Building name cannot be null");
@@ -53,15 +57,17 @@ public abstract class Building {
      * Builds this building at the specified location.
      *
      * @param location The tile to build on
+     * @param eventBus The event bus of the game the building belongs to
      * @return true if successful, false otherwise
      */
-    public boolean build(Tile location) {
+    public boolean build(Tile location, EventBus eventBus) {
         if (location == null) {
             LOGGER.warning("Attempted to build " + name + " at null location");
             return false;
         }
 
         this.location = location;
+        this.eventBus = eventBus;
         LOGGER.fine("Building " + name + " placement initialized at " + location);
         return true;
     }
@@ -72,12 +78,50 @@ public abstract class Building {
     public void demolish() {
         if (location != null) {
             LOGGER.info("Demolishing " + name + " at " + location);
-            Tile oldLocation = location;
-            location.removeBuilding();
-            location = null;
+            Tile oldLocation = detach();
 
             // Publish building removed event
-            eventBus.publish(BuildingEvent.removed(this, this, oldLocation));
+            publish(BuildingEvent.removed(this, this, oldLocation));
+        }
+    }
+
+    /**
+     * Removes this building from its tile without publishing any event.
+     * Used by batch operations that report the change themselves.
+     *
+     * @return The tile the building was on, or null if it was not placed
+     */
+    Tile detach() {
+        Tile oldLocation = location;
+        if (oldLocation != null) {
+            oldLocation.removeBuilding();
+            location = null;
+        }
+        return oldLocation;
+    }
+
+    /**
+     * Gets this building's key in its game's state hash, or 0 if it is not
+     * standing on a tracked tile.
+     */
+    private long hashKey() {
+        Tile tile = location;
+        if (tile == null || tile.getStateHash() == null || tile.getBuilding() != this) {
+            return 0L;
+        }
+        return StateHash.buildingKey(tile, this);
+    }
+
+    private void rehash(long before) {
+        if (before != 0L) {
+            location.getStateHash().replace(before, hashKey());
+        }
+    }
+
+    private void publish(GameEvent event) {
+        // Buildings that were never placed have no game to report to
+        if (eventBus != null) {
+            eventBus.publish(event);
         }
     }
 
@@ -85,30 +129,66 @@ public abstract class Building {
      * Updates this building's state for the current turn.
      */
     public void update() {
-        if (remainingConstructionTime > 0) {
-            LOGGER.fine("Updating building: " + name + ", remaining time: " + remainingConstructionTime);
-            remainingConstructionTime--;
+        List<GameEvent> events = new ArrayList<>(2);
+        progressConstruction(events);
+        for (GameEvent event : events) {
+            publish(event);
+        }
+    }
+
+    /**
+     * Advances construction by one turn, activating the building when it
+     * completes. Events are added to a list instead of published, so the
+     * caller can publish them later in a stable order; only this building's
+     * state is touched, so buildings can progress on different threads.
+     *
+     * @param events The list to add the activation and completion events to
+     * @return true if construction completed this turn
+     */
+    boolean progressConstruction(List<GameEvent> events) {
+        if (remainingConstructionTime <= 0) {
+            return false;
+        }
 
-            if (remainingConstructionTime == 0) {
-                LOGGER.info("Building " + name + " construction completed!");
-                activate();
+        LOGGER.fine("Updating building: " + name + ", remaining time: " + remainingConstructionTime);
+        long before = hashKey();
+        remainingConstructionTime--;
+        rehash(before);
+        if (remainingConstructionTime > 0) {
+            return false;
+        }
 
-                // Publish building completed event
-                eventBus.publish(BuildingEvent.completed(this, this, location));
-            }
+        LOGGER.fine("Building " + name + " construction completed!");
+        if (setActiveState(true)) {
+            events.add(BuildingEvent.activated(this, this, location));
         }
+        events.add(BuildingEvent.completed(this, this, location));
+        return true;
+    }
+
+    /**
+     * Puts construction progress and the active flag back to earlier values
+     * without publishing an event. Used to roll back a turn.
+     *
+     * @param remaining The remaining construction time to restore
+     * @param state The active state to restore
+     */
+    void restoreConstruction(int remaining, boolean state) {
+        long before = hashKey();
+        remainingConstructionTime = remaining;
+        active = state;
+        rehash(before);
     }
 
     /**
      * Activates this building, allowing it to produce resources.
      */
     public void activate() {
-        if (!active) {
-            active = true;
+        if (setActiveState(true)) {
             LOGGER.info("Building " + name + " activated");
 
             // Publish building activated event
-            eventBus.publish(BuildingEvent.activated(this, this, location));
+            publish(BuildingEvent.activated(this, this, location));
         }
     }
 
@@ -116,15 +196,31 @@ public abstract class Building {
      * Deactivates this building, stopping resource production.
      */
     public void deactivate() {
-        if (active) {
-            active = false;
+        if (setActiveState(false)) {
             LOGGER.info("Building " + name + " deactivated");
 
             // Publish building deactivated event
-            eventBus.publish(BuildingEvent.deactivated(this, this, location));
+            publish(BuildingEvent.deactivated(this, this, location));
         }
     }
 
+    /**
+     * Sets the active flag without publishing an event.
+     * Used by bulk operations that publish a single summary event.
+     *
+     * @param state The new active state
+     * @return true if the state changed, false otherwise
+     */
+    boolean setActiveState(boolean state) {
+        if (active == state) {
+            return false;
+        }
+        long before = hashKey();
+        active = state;
+        rehash(before);
+        return true;
+    }
+
     /**
      * Toggles this building's active state.
      *
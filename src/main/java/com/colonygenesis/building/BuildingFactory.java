@@ -10,6 +10,33 @@ import java.util.logging.Logger;
 public class BuildingFactory {
     private static final Logger LOGGER = LoggerUtils.getLogger(BuildingFactory.class);
 
+    /**
+     * Creates a building from its display name, such as "Farm".
+     *
+     * @param name The building name
+     * @return The new building, or null if the name is unknown
+     */
+    public static Building createByName(String name) {
+        switch (name) {
+            case "Farm":
+                return createFarm();
+            case "Mine":
+                return createMine();
+            case "Solar Panel":
+                return createSolarPanel();
+            case "Water Extractor":
+                return createWaterExtractor();
+            case "Habitation Dome":
+                return createHabitationDome();
+            case "Luxury Apartments":
+                return createLuxuryApartments();
+            case "Power Conduit":
+                return createPowerConduit();
+            default:
+                return null;
+        }
+    }
+
     // Production buildings
     public static Building createFarm() {
         LOGGER.fine("Creating new Farm building");
@@ -17,6 +44,7 @@ public class BuildingFactory {
         ProductionBuilding farm = new ProductionBuilding(
                 "Farm", "Produces food for your colony", 2, ResourceType.FOOD, 10
         );
+        farm.setJobSlots(6);
 
         // Set construction costs
         Map<ResourceType, Integer> cost = new EnumMap<>(ResourceType.class);
@@ -40,6 +68,7 @@ public class BuildingFactory {
         ProductionBuilding mine = new ProductionBuilding(
                 "Mine", "Extracts materials from the ground", 3, ResourceType.MATERIALS, 8
         );
+        mine.setJobSlots(8);
 
         // Set construction costs
         Map<ResourceType, Integer> cost = new EnumMap<>(ResourceType.class);
@@ -62,6 +91,7 @@ public class BuildingFactory {
         ProductionBuilding solarPanel = new ProductionBuilding(
                 "Solar Panel", "Generates energy from sunlight", 2, ResourceType.ENERGY, 15
         );
+        solarPanel.setJobSlots(2);
 
         // Set construction costs
         Map<ResourceType, Integer> cost = new EnumMap<>(ResourceType.class);
@@ -83,6 +113,7 @@ public class BuildingFactory {
         ProductionBuilding waterExtractor = new ProductionBuilding(
                 "Water Extractor", "Extracts and purifies water", 2, ResourceType.WATER, 12
         );
+        waterExtractor.setJobSlots(4);
 
         // Set construction costs
         Map<ResourceType, Integer> cost = new EnumMap<>(ResourceType.class);
@@ -142,4 +173,18 @@ public class BuildingFactory {
 
         return apartments;
     }
-}
\ No newline at end of file
+
+    // Infrastructure buildings
+    public static Building createPowerConduit() {
+        LOGGER.fine("Creating new Power Conduit building");
+
+        ConduitBuilding conduit = new ConduitBuilding(
+                "Power Conduit", "Connects neighbouring buildings to the same power grid", 1
+        );
+
+        // Set construction costs
+        conduit.constructionCost.put(ResourceType.MATERIALS, 20);
+
+        return conduit;
+    }
+}
@@ -1,34 +1,52 @@
 package com.colonygenesis.building;
 
+import com.colonygenesis.core.ChangeLog;
 import com.colonygenesis.core.Game;
 import com.colonygenesis.event.EventBus;
+import com.colonygenesis.event.GameEvent;
+import com.colonygenesis.event.events.BuildingBatchEvent;
 import com.colonygenesis.event.events.BuildingEvent;
 import com.colonygenesis.map.Tile;
+import com.colonygenesis.power.PowerNetwork;
 import com.colonygenesis.resource.ResourceType;
 import com.colonygenesis.util.LoggerUtils;
 import com.colonygenesis.util.Result;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 public class BuildingManager {
     private static final Logger LOGGER = LoggerUtils.getLogger(BuildingManager.class);
+    private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
+    // Per-building turn work is split into index ranges that can run on the
+    // common fork-join pool; partial results are merged in range order
+    private static final int CHUNK_SIZE = 2_048;
+    private static final int PARALLEL_THRESHOLD = 8_192;
 
     private final Game game;
     private final List<Building> buildings;
     private final List<Building> constructionQueue;
     private final Map<BuildingType, Integer> buildingCounts;
+    private final PowerNetwork powerNetwork;
     private final EventBus eventBus;
+    private boolean parallelTurns = true;
 
     public BuildingManager(Game game) {
         this.game = game;
         this.buildings = new ArrayList<>();
         this.constructionQueue = new ArrayList<>();
         this.buildingCounts = new EnumMap<>(BuildingType.class);
-        this.eventBus = EventBus.getInstance();
+        this.powerNetwork = new PowerNetwork(game);
+        this.eventBus = game.getEventBus();
 
         // Initialize count for each building type
         for (BuildingType type : BuildingType.values()) {
@@ -71,7 +89,7 @@ public class BuildingManager {
         building.markResourcesDeducted(); // Mark resources as deducted for this building
 
         // First associate the building with the location
-        boolean buildSuccess = building.build(tile);
+        boolean buildSuccess = building.build(tile, eventBus);
         if (!buildSuccess) {
             // Something went wrong in building.build()
             refundResources(building.getConstructionCost());
@@ -94,6 +112,7 @@ public class BuildingManager {
 
         // Add to our tracking
         buildings.add(building);
+        powerNetwork.connect(building);
 
         // Add to construction queue if not already completed
         if (!building.isCompleted()) {
@@ -131,6 +150,7 @@ public class BuildingManager {
 
         building.demolish();
         buildings.remove(building);
+        powerNetwork.disconnect(building, location);
         constructionQueue.remove(building);
 
         // Update building count
@@ -146,73 +166,355 @@ public class BuildingManager {
     }
 
     /**
-     * Updates the construction progress of buildings in the construction queue.
+     * Places every building in a blueprint as a single transaction.
+     * All placements are validated together, the summed construction cost is
+     * debited at once, and one batched placement event is published.
+     *
+     * @param blueprint The blueprint to place
+     * @return A Result containing the placed buildings, or a failure if any placement is invalid
      */
-    public void updateConstructionQueue() {
-        List<Building> completedBuildings = new ArrayList<>();
-
-        LOGGER.fine("Construction queue size: " + constructionQueue.size());
+    public Result<List<Building>> placeBlueprint(Blueprint blueprint) {
+        if (blueprint == null) {
+            return Result.failure("Blueprint cannot be null");
+        }
+        if (blueprint.isEmpty()) {
+            return Result.failure("Blueprint has no placements");
+        }
 
-        for (Building building : constructionQueue) {
-            int before = building.getRemainingConstructionTime();
-            building.update();
-            int after = building.getRemainingConstructionTime();
+        // Validate every placement before touching any state
+        Set<Tile> claimedTiles = new HashSet<>();
+        Set<Building> claimedBuildings = Collections.newSetFromMap(new IdentityHashMap<>());
 
-            LOGGER.fine("Building " + building.getName() + " construction: " +
-                    before + " -> " + after + " turns remaining");
+        for (Blueprint.Placement placement : blueprint.getPlacements()) {
+            Building building = placement.getBuilding();
+            Tile tile = placement.getTile();
 
-            if (building.isCompleted()) {
-                LOGGER.info("Building " + building.getName() + " completed!");
-                completedBuildings.add(building);
+            if (building == null) {
+                return Result.failure("Building cannot be null");
+            }
+            if (tile == null) {
+                return Result.failure("Tile cannot be null");
+            }
+            if (building.getLocation() != null || !claimedBuildings.add(building)) {
+                return Result.failure(building.getName() + " is already placed");
+            }
+            if (!claimedTiles.add(tile)) {
+                return Result.failure("Blueprint places more than one building on " + tile);
+            }
+            if (!building.canBuildOn(tile)) {
+                LOGGER.warning("Blueprint " + blueprint.getName() + ": " + building.getName() +
+                        " can't be placed on tile " + tile);
+                return Result.failure(building.getName() + " can't be placed on " + tile);
+            }
+        }
 
-                // Activate the building when completed
-                building.activate();
+        // Debit the combined cost atomically
+        Map<ResourceType, Integer> totalCost = blueprint.getTotalCost();
+        Result<Map<ResourceType, Integer>> payment = game.getResourceManager().removeResources(totalCost);
+        if (payment.isFailure()) {
+            LOGGER.warning("Cannot afford blueprint " + blueprint.getName() + ": " + payment.getErrorMessage());
+            return Result.failure("Cannot afford blueprint: " + payment.getErrorMessage());
+        }
 
-                // Publish building completed event
-                eventBus.publish(BuildingEvent.completed(this, building, building.getLocation()));
+        // Register everything in one batch
+        List<Building> placed = new ArrayList<>(blueprint.size());
+        for (Blueprint.Placement placement : blueprint.getPlacements()) {
+            Building building = placement.getBuilding();
+            Tile tile = placement.getTile();
 
-                // Also publish activation event
-                eventBus.publish(BuildingEvent.activated(this, building, building.getLocation()));
+            building.markResourcesDeducted();
+            building.build(tile, eventBus);
+            tile.setBuilding(building);
+            powerNetwork.connect(building);
+            placed.add(building);
 
-                // No need to deduct resources again - already happened during placement
+            if (!building.isCompleted()) {
+                constructionQueue.add(building);
             }
+
+            buildingCounts.merge(building.getType(), 1, Integer::sum);
         }
+        buildings.addAll(placed);
 
-        // Remove completed buildings from the queue
-        constructionQueue.removeAll(completedBuildings);
+        LOGGER.info("Blueprint " + blueprint.getName() + " placed " + placed.size() + " buildings");
+
+        // Publish a single batched placement event
+        eventBus.publish(BuildingBatchEvent.placed(this, placed));
+
+        return Result.success(placed);
     }
 
     /**
-     * Calculates the total production from all active buildings.
+     * Removes a group of buildings as a single transaction and refunds their
+     * construction cost. Used to undo a blueprint placement.
      *
-     * @return A map of resources to their production amounts
+     * @param toRemove The buildings to remove
+     * @return A Result indicating success or failure
      */
-    public Map<ResourceType, Integer> calculateTotalProduction() {
-        Map<ResourceType, Integer> totalProduction = new EnumMap<>(ResourceType.class);
+    public Result<Void> removeBlueprint(List<Building> toRemove) {
+        if (toRemove == null || toRemove.isEmpty()) {
+            return Result.failure("No buildings to remove");
+        }
 
-        // Initialize with zeros
-        for (ResourceType type : ResourceType.values()) {
-            totalProduction.put(type, 0);
+        for (Building building : toRemove) {
+            if (building == null || building.getLocation() == null) {
+                return Result.failure("Blueprint building is no longer placed");
+            }
+        }
+
+        Set<Building> removalSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        removalSet.addAll(toRemove);
+
+        // Detaching clears each location, so the tiles are kept for the event
+        List<Tile> tiles = new ArrayList<>(toRemove.size());
+        Map<ResourceType, Integer> refund = new EnumMap<>(ResourceType.class);
+        for (Building building : toRemove) {
+            tiles.add(building.getLocation());
+            powerNetwork.disconnect(building, building.detach());
+            buildingCounts.merge(building.getType(), -1, Integer::sum);
+
+            if (building.areResourcesDeducted()) {
+                for (Map.Entry<ResourceType, Integer> entry : building.getConstructionCost().entrySet()) {
+                    refund.merge(entry.getKey(), entry.getValue(), Integer::sum);
+                }
+            }
         }
 
-        // Add production from each building
+        // Single pass over the registries instead of one List.remove per building
+        buildings.removeIf(removalSet::contains);
+        constructionQueue.removeIf(removalSet::contains);
+
+        if (!refund.isEmpty()) {
+            game.getResourceManager().refundResources(refund);
+        }
+
+        LOGGER.info("Removed " + toRemove.size() + " blueprint buildings");
+
+        eventBus.publish(BuildingBatchEvent.removed(this, toRemove, tiles));
+
+        return Result.success();
+    }
+
+    /**
+     * Activates or deactivates every completed building matched by a selector
+     * in a single pass. The net production change is applied once and a single
+     * summary event is published.
+     *
+     * @param selector The buildings to change
+     * @param activate Whether to activate (true) or deactivate (false)
+     * @return A Result containing the buildings whose state actually changed
+     */
+    public Result<List<Building>> setActiveWhere(BuildingSelector selector, boolean activate) {
+        if (selector == null) {
+            return Result.failure("Selector cannot be null");
+        }
+
+        List<Building> matched = new ArrayList<>();
         for (Building building : buildings) {
-            if (building.isActive()) {
-                Map<ResourceType, Integer> production = building.getProduction();
+            if (building.isCompleted() && building.isActive() != activate && selector.matches(building)) {
+                matched.add(building);
+            }
+        }
+
+        return setActive(matched, activate);
+    }
+
+    /**
+     * Activates or deactivates a known group of buildings in a single pass.
+     *
+     * @param targets The buildings to change
+     * @param activate Whether to activate (true) or deactivate (false)
+     * @return A Result containing the buildings whose state actually changed
+     */
+    public Result<List<Building>> setActive(List<Building> targets, boolean activate) {
+        if (targets == null) {
+            return Result.failure("Buildings cannot be null");
+        }
+
+        List<Building> changed = new ArrayList<>();
+        Map<ResourceType, Integer> delta = new EnumMap<>(ResourceType.class);
+
+        for (Building building : targets) {
+            if (building == null || !building.isCompleted()) {
+                continue;
+            }
+
+            Map<ResourceType, Integer> before = building.getProduction();
+            if (!building.setActiveState(activate)) {
+                continue;
+            }
+            game.getChangeLog().record(() -> building.setActiveState(!activate));
+            Map<ResourceType, Integer> after = building.getProduction();
+
+            for (Map.Entry<ResourceType, Integer> entry : before.entrySet()) {
+                delta.merge(entry.getKey(), -entry.getValue(), Integer::sum);
+            }
+            for (Map.Entry<ResourceType, Integer> entry : after.entrySet()) {
+                delta.merge(entry.getKey(), entry.getValue(), Integer::sum);
+            }
+
+            changed.add(building);
+        }
+
+        if (changed.isEmpty()) {
+            return Result.success(changed);
+        }
+
+        // One net production update instead of a full recalculation per building
+        game.getResourceManager().applyProductionDelta(delta);
+
+        LOGGER.info((activate ? "Activated " : "Deactivated ") + changed.size() + " buildings");
+
+        // Publish a single summary event
+        eventBus.publish(activate
+                ? BuildingBatchEvent.activated(this, changed)
+                : BuildingBatchEvent.deactivated(this, changed));
+
+        return Result.success(changed);
+    }
+
+    /**
+     * Updates the construction progress of buildings in the construction queue.
+     * Large queues are processed in parallel ranges; the activation and
+     * completion events of each range are published afterwards in queue
+     * order, so the result is the same as a sequential pass.
+     */
+    public void updateConstructionQueue() {
+        int size = constructionQueue.size();
+        LOGGER.fine("Construction queue size: " + size);
+        if (size == 0) {
+            return;
+        }
 
-                for (Map.Entry<ResourceType, Integer> entry : production.entrySet()) {
-                    ResourceType type = entry.getKey();
-                    int amount = entry.getValue();
+        recordConstructionUndo();
+
+        int chunks = chunkCount(size);
+        List<List<GameEvent>> chunkEvents = new ArrayList<>(Collections.nCopies(chunks, null));
+        boolean[] completed = new boolean[size];
+
+        chunkRange(size, chunks).forEach(chunk -> {
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(size, from + CHUNK_SIZE);
+            List<GameEvent> events = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                completed[i] = constructionQueue.get(i).progressConstruction(events);
+            }
+            chunkEvents.set(chunk, events);
+        });
+
+        // Resources were paid at placement; completion only activates the building
+        for (List<GameEvent> events : chunkEvents) {
+            for (GameEvent event : events) {
+                eventBus.publish(event);
+            }
+        }
+
+        // Remove completed buildings from the queue, keeping the order of the rest
+        List<Building> remaining = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Building building = constructionQueue.get(i);
+            if (completed[i]) {
+                LOGGER.info("Building " + building.getName() + " completed!");
+            } else {
+                remaining.add(building);
+            }
+        }
+        constructionQueue.clear();
+        constructionQueue.addAll(remaining);
+    }
+
+    /**
+     * Records how to put the construction queue back as it is now. Every
+     * queued building changes during the pass, so the queue is captured
+     * here, before the work is split across threads.
+     */
+    private void recordConstructionUndo() {
+        ChangeLog changeLog = game.getChangeLog();
+        if (!changeLog.isRecording()) {
+            return;
+        }
 
-                    // Add to total
-                    totalProduction.put(type, totalProduction.get(type) + amount);
+        List<Building> queued = new ArrayList<>(constructionQueue);
+        int[] remaining = new int[queued.size()];
+        boolean[] active = new boolean[queued.size()];
+        for (int i = 0; i < queued.size(); i++) {
+            remaining[i] = queued.get(i).getRemainingConstructionTime();
+            active[i] = queued.get(i).isActive();
+        }
+
+        changeLog.record(() -> {
+            for (int i = 0; i < queued.size(); i++) {
+                queued.get(i).restoreConstruction(remaining[i], active[i]);
+            }
+            constructionQueue.clear();
+            constructionQueue.addAll(queued);
+        });
+    }
+
+    /**
+     * Calculates the total production from all active buildings.
+     * Large colonies are summed in parallel ranges whose partial totals are
+     * added in range order.
+     *
+     * @return A map of resources to their production amounts
+     */
+    public Map<ResourceType, Integer> calculateTotalProduction() {
+        int size = buildings.size();
+        int chunks = chunkCount(size);
+        int[][] partial = new int[chunks][RESOURCE_TYPES.length];
+
+        chunkRange(size, chunks).forEach(chunk -> {
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(size, from + CHUNK_SIZE);
+            int[] sums = partial[chunk];
+            for (int i = from; i < to; i++) {
+                Building building = buildings.get(i);
+                if (building.isActive()) {
+                    for (Map.Entry<ResourceType, Integer> entry : building.getProduction().entrySet()) {
+                        sums[entry.getKey().ordinal()] += entry.getValue();
+                    }
                 }
             }
+        });
+
+        Map<ResourceType, Integer> totalProduction = new EnumMap<>(ResourceType.class);
+        for (ResourceType type : RESOURCE_TYPES) {
+            int total = 0;
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                total += partial[chunk][type.ordinal()];
+            }
+            totalProduction.put(type, total);
         }
 
         return totalProduction;
     }
 
+    private static int chunkCount(int size) {
+        return Math.max(1, (size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    }
+
+    private IntStream chunkRange(int size, int chunks) {
+        IntStream range = IntStream.range(0, chunks);
+        if (parallelTurns && size >= PARALLEL_THRESHOLD) {
+            range = range.parallel();
+        }
+        return range;
+    }
+
+    /**
+     * Sets whether large colonies process construction and production in
+     * parallel. Both modes produce the same state.
+     *
+     * @param parallel true to allow parallel processing, false to force a single thread
+     */
+    public void setParallelTurns(boolean parallel) {
+        this.parallelTurns = parallel;
+    }
+
+    public boolean isParallelTurns() {
+        return parallelTurns;
+    }
+
     /**
      * Checks if the player can afford the specified resources.
      */
@@ -284,6 +586,13 @@ public class BuildingManager {
         return new ArrayList<>(constructionQueue);
     }
 
+    /**
+     * Gets the power network connecting placed buildings.
+     */
+    public PowerNetwork getPowerNetwork() {
+        return powerNetwork;
+    }
+
     /**
      * Gets the count of buildings of a specific type.
      */
@@ -0,0 +1,65 @@
+package com.colonygenesis.building;
+
+import com.colonygenesis.map.HexGrid;
+import com.colonygenesis.map.Tile;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Selects a subset of buildings for bulk operations.
+ */
+@FunctionalInterface
+public interface BuildingSelector {
+    /**
+     * Checks if a building is part of the selection.
+     *
+     * @param building The building to test
+     * @return true if selected, false otherwise
+     */
+    boolean matches(Building building);
+
+    /**
+     * Combines this selector with another; both must match.
+     */
+    default BuildingSelector and(BuildingSelector other) {
+        Objects.requireNonNull(other, "Selector cannot be null");
+        return building -> matches(building) && other.matches(building);
+    }
+
+    /**
+     * Selects buildings of the given type.
+     */
+    static BuildingSelector ofType(BuildingType type) {
+        Objects.requireNonNull(type, "Building type cannot be null");
+        return building -> building.getType() == type;
+    }
+
+    /**
+     * Selects buildings with the given name, such as "Mine".
+     */
+    static BuildingSelector named(String name) {
+        Objects.requireNonNull(name, "Building name cannot be null");
+        return building -> name.equals(building.getName());
+    }
+
+    /**
+     * Selects buildings within a hex radius of a center tile.
+     */
+    static BuildingSelector withinRadius(Tile center, int radius) {
+        Objects.requireNonNull(center, "Center tile cannot be null");
+        return building -> {
+            Tile location = building.getLocation();
+            return location != null &&
+                    HexGrid.distance(center.getX(), center.getY(), location.getX(), location.getY()) <= radius;
+        };
+    }
+
+    /**
+     * Selects buildings using an arbitrary predicate.
+     */
+    static BuildingSelector where(Predicate<Building> predicate) {
+        Objects.requireNonNull(predicate, "Predicate cannot be null");
+        return predicate::test;
+    }
+}
@@ -0,0 +1,22 @@
+package com.colonygenesis.building;
+
+import com.colonygenesis.resource.ResourceType;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A power line that joins neighbouring buildings into one power grid.
+ * Conduits neither produce nor consume resources.
+ */
+public class ConduitBuilding extends Building {
+
+    public ConduitBuilding(String name, String description, int constructionTime) {
+        super(name, description, BuildingType.INFRASTRUCTURE, constructionTime);
+    }
+
+    @Override
+    public Map<ResourceType, Integer> getProduction() {
+        return new EnumMap<>(ResourceType.class);
+    }
+}
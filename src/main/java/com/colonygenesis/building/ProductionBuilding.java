@@ -12,10 +12,16 @@ import java.util.logging.Logger;
 
 public class ProductionBuilding extends Building {
     private static final Logger LOGGER = LoggerUtils.getLogger(ProductionBuilding.class);
+    private static final String WORKFORCE_MODIFIER = "Workforce";
+    private static final int DEFAULT_JOB_SLOTS = 5;
+    private static final float MAX_WORKFORCE_BONUS = 0.5f; // Fully skilled, fully staffed output bonus
 
     private final ResourceType primaryOutput;
     private final int baseOutput;
     private final Map<String, Float> productionModifiers;
+    private int jobSlots;
+    private int assignedWorkers;
+    private float workforceEffectiveness;
 
     public ProductionBuilding(String name, String description, int constructionTime,
                               ResourceType primaryOutput, int baseOutput) {
@@ -23,6 +29,7 @@ public class ProductionBuilding extends Building {
         this.primaryOutput = primaryOutput;
         this.baseOutput = baseOutput;
         this.productionModifiers = new HashMap<>();
+        this.jobSlots = DEFAULT_JOB_SLOTS;
     }
 
     @Override
@@ -91,6 +98,39 @@ public class ProductionBuilding extends Building {
         return efficiency;
     }
 
+    /**
+     * Records the colonists working here and applies the matching output bonus.
+     *
+     * @param workers The number of colonists assigned
+     * @param effectiveness Summed worker skill divided by job slots, 0.0 to 1.0
+     */
+    public void setWorkforce(int workers, float effectiveness) {
+        this.assignedWorkers = workers;
+        this.workforceEffectiveness = effectiveness;
+
+        if (workers <= 0) {
+            removeModifier(WORKFORCE_MODIFIER);
+        } else {
+            applyModifier(WORKFORCE_MODIFIER, 1.0f + MAX_WORKFORCE_BONUS * Math.min(1.0f, effectiveness));
+        }
+    }
+
+    public int getAssignedWorkers() {
+        return assignedWorkers;
+    }
+
+    public float getWorkforceEffectiveness() {
+        return workforceEffectiveness;
+    }
+
+    public int getJobSlots() {
+        return jobSlots;
+    }
+
+    public void setJobSlots(int jobSlots) {
+        this.jobSlots = Math.max(0, jobSlots);
+    }
+
     public ResourceType getPrimaryOutput() {
         return primaryOutput;
     }
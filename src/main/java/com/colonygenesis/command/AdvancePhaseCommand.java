@@ -1,7 +1,12 @@
 package com.colonygenesis.command;
 
 import com.colonygenesis.controller.GameController;
+import com.colonygenesis.core.ChangeLog;
+import com.colonygenesis.core.Game;
+import com.colonygenesis.core.TurnManager;
 import com.colonygenesis.core.TurnPhase;
+import com.colonygenesis.event.EventBus;
+import com.colonygenesis.event.events.GameStateEvent;
 import com.colonygenesis.util.LoggerUtils;
 import com.colonygenesis.util.Result;
 
@@ -9,6 +14,10 @@ import java.util.logging.Logger;
 
 /**
  * Command for advancing to the next game phase.
+ *
+ * <p>Every change made while the phases run is recorded in the game's
+ * {@link ChangeLog}, so undoing costs as much as the phases changed rather
+ * than a copy of the whole game.</p>
  */
 public class AdvancePhaseCommand implements Command {
     private static final Logger LOGGER = LoggerUtils.getLogger(AdvancePhaseCommand.class);
@@ -16,6 +25,9 @@ public class AdvancePhaseCommand implements Command {
     private final GameController gameController;
     private TurnPhase previousPhase;
     private int previousTurn;
+    private TurnPhase reachedPhase;
+    private int reachedTurn;
+    private ChangeLog.ChangeSet changes;
 
     /**
      * Creates a command to advance to the next phase.
@@ -29,24 +41,58 @@ public class AdvancePhaseCommand implements Command {
     @Override
     public Result<TurnPhase> execute() {
         LOGGER.info("Executing AdvancePhaseCommand");
+        Game game = gameController.getGame();
 
         // Store state for potential undo
-        previousPhase = gameController.getGame().getTurnManager().getCurrentPhase();
-        previousTurn = gameController.getGame().getCurrentTurn();
+        previousPhase = game.getTurnManager().getCurrentPhase();
+        previousTurn = game.getCurrentTurn();
 
-        // Execute the current phase and advance to the next
-        return gameController.executeCurrentPhase();
+        // Execute the current phase and advance to the next, recording every change
+        Result<TurnPhase> result;
+        ChangeLog.ChangeSet recorded = game.getChangeLog().begin();
+        try (recorded) {
+            result = gameController.executeCurrentPhase();
+        }
+
+        changes = recorded;
+        reachedPhase = game.getTurnManager().getCurrentPhase();
+        reachedTurn = game.getCurrentTurn();
+        LOGGER.fine("Recorded " + recorded.size() + " changes advancing from turn " + previousTurn);
+
+        return result;
     }
 
     @Override
     public boolean isUndoable() {
-        // Phase advancement is not undoable for simplicity
-        // In a more complex implementation, we might store the full game state
-        return false;
+        return changes != null;
     }
 
     @Override
     public Result<?> undo() {
-        return Result.failure("Cannot undo phase advancement");
+        if (!isUndoable()) {
+            return Result.failure("Nothing to undo");
+        }
+
+        Game game = gameController.getGame();
+        TurnManager turnManager = game.getTurnManager();
+        if (turnManager.getTurnNumber() != reachedTurn || turnManager.getCurrentPhase() != reachedPhase) {
+            return Result.failure("Cannot undo phase advancement: the game has moved on since");
+        }
+
+        LOGGER.info("Undoing AdvancePhaseCommand back to turn " + previousTurn + ", phase " + previousPhase.getName());
+
+        // Stockpile events from the rollback coalesce into one per resource
+        EventBus eventBus = game.getEventBus();
+        EventBus.BatchScope batch = eventBus.openBatch();
+        try (batch) {
+            changes.rollback();
+            changes = null;
+
+            turnManager.restore(previousTurn, previousPhase);
+            game.getResourceManager().recalculateProduction();
+            eventBus.publish(new GameStateEvent(this, GameStateEvent.GameStateType.STATE_RESTORED, game));
+        }
+
+        return Result.success(previousPhase);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package com.colonygenesis.command;
+
+import com.colonygenesis.building.Building;
+import com.colonygenesis.building.BuildingManager;
+import com.colonygenesis.building.BuildingSelector;
+import com.colonygenesis.util.LoggerUtils;
+import com.colonygenesis.util.Result;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Command for activating or deactivating every building matched by a selector.
+ */
+public class BulkActivateBuildingsCommand implements Command {
+    private static final Logger LOGGER = LoggerUtils.getLogger(BulkActivateBuildingsCommand.class);
+
+    private final BuildingManager buildingManager;
+    private final BuildingSelector selector;
+    private final boolean targetState; // true = activate, false = deactivate
+    private List<Building> changedBuildings;
+
+    /**
+     * Creates a command to set the active state of selected buildings.
+     *
+     * @param buildingManager The building manager
+     * @param selector The buildings to change
+     * @param activate Whether to activate (true) or deactivate (false)
+     */
+    public BulkActivateBuildingsCommand(BuildingManager buildingManager, BuildingSelector selector, boolean activate) {
+        this.buildingManager = buildingManager;
+        this.selector = selector;
+        this.targetState = activate;
+    }
+
+    @Override
+    public Result<List<Building>> execute() {
+        LOGGER.info("Executing BulkActivateBuildingsCommand, target state " + targetState);
+        Result<List<Building>> result = buildingManager.setActiveWhere(selector, targetState);
+
+        if (result.isSuccess()) {
+            changedBuildings = result.getValueOrNull();
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean isUndoable() {
+        return changedBuildings != null && !changedBuildings.isEmpty();
+    }
+
+    @Override
+    public Result<?> undo() {
+        if (!isUndoable()) {
+            return Result.failure("Nothing to undo");
+        }
+
+        LOGGER.info("Undoing bulk state change of " + changedBuildings.size() + " buildings");
+        return buildingManager.setActive(changedBuildings, !targetState);
+    }
+}
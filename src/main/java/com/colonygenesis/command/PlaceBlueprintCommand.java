@@ -0,0 +1,65 @@
+package com.colonygenesis.command;
+
+import com.colonygenesis.building.Blueprint;
+import com.colonygenesis.building.Building;
+import com.colonygenesis.building.BuildingManager;
+import com.colonygenesis.util.LoggerUtils;
+import com.colonygenesis.util.Result;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Command for placing every building in a blueprint as one undoable action.
+ */
+public class PlaceBlueprintCommand implements Command {
+    private static final Logger LOGGER = LoggerUtils.getLogger(PlaceBlueprintCommand.class);
+
+    private final BuildingManager buildingManager;
+    private final Blueprint blueprint;
+    private List<Building> placedBuildings;
+
+    /**
+     * Creates a new command to place a blueprint.
+     *
+     * @param buildingManager The building manager
+     * @param blueprint The blueprint to place
+     */
+    public PlaceBlueprintCommand(BuildingManager buildingManager, Blueprint blueprint) {
+        this.buildingManager = buildingManager;
+        this.blueprint = blueprint;
+    }
+
+    @Override
+    public Result<List<Building>> execute() {
+        LOGGER.info("Executing PlaceBlueprintCommand: " + blueprint);
+        Result<List<Building>> result = buildingManager.placeBlueprint(blueprint);
+
+        if (result.isSuccess()) {
+            placedBuildings = result.getValueOrNull();
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean isUndoable() {
+        return placedBuildings != null;
+    }
+
+    @Override
+    public Result<?> undo() {
+        if (!isUndoable()) {
+            return Result.failure("Nothing to undo");
+        }
+
+        LOGGER.info("Undoing PlaceBlueprintCommand: " + blueprint);
+        Result<Void> result = buildingManager.removeBlueprint(placedBuildings);
+
+        if (result.isSuccess()) {
+            placedBuildings = null;
+        }
+
+        return result;
+    }
+}
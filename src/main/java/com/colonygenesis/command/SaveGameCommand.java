@@ -71,15 +71,22 @@ public class SaveGameCommand implements Command {
      * Class to hold all game state for serialization.
      */
     private static class GameState implements Serializable {
-        private static final long serialVersionUID = 1L;
+        private static final long serialVersionUID = 2L;
 
         // Add all game state fields here
         // This will need to be expanded as the game grows
 
+        private final long seed;
+        private final int planetWidth;
+        private final int planetHeight;
         private final int currentTurn;
         private final String currentPhase;
 
         public GameState(Game game) {
+            // The seed and planet size regenerate the same planet and random streams
+            this.seed = game.getSeed();
+            this.planetWidth = game.getPlanet().getGrid().getWidth();
+            this.planetHeight = game.getPlanet().getGrid().getHeight();
             this.currentTurn = game.getCurrentTurn();
             this.currentPhase = game.getTurnManager().getCurrentPhase().name();
 
@@ -1,16 +1,23 @@
 package com.colonygenesis.controller;
 
+import com.colonygenesis.building.Blueprint;
 import com.colonygenesis.building.Building;
+import com.colonygenesis.building.BuildingSelector;
 import com.colonygenesis.command.ActivateDeactivateBuildingCommand;
 import com.colonygenesis.command.AdvancePhaseCommand;
+import com.colonygenesis.command.BulkActivateBuildingsCommand;
 import com.colonygenesis.command.Command;
 import com.colonygenesis.command.CommandHistory;
 import com.colonygenesis.command.DemolishBuildingCommand;
+import com.colonygenesis.command.PlaceBlueprintCommand;
 import com.colonygenesis.command.PlaceBuildingCommand;
 import com.colonygenesis.core.Game;
+import com.colonygenesis.core.TickScheduler;
+import com.colonygenesis.core.TurnManager;
 import com.colonygenesis.core.TurnPhase;
 import com.colonygenesis.event.EventBus;
-import com.colonygenesis.event.events.TurnEvent;
+import com.colonygenesis.event.GameEvent;
+import com.colonygenesis.event.events.FastForwardEvent;
 import com.colonygenesis.map.Tile;
 import com.colonygenesis.util.LoggerUtils;
 import com.colonygenesis.util.Result;
@@ -19,18 +26,24 @@ import java.util.logging.Logger;
 
 /**
  * Central controller for game actions, using the command pattern.
+ *
+ * <p>While auto-play runs, the simulation thread owns the game, and player
+ * commands, undo, redo and fast-forward fail instead of running alongside
+ * it.</p>
  */
 public class GameController {
     private static final Logger LOGGER = LoggerUtils.getLogger(GameController.class);
+    private static final String AUTO_PLAYING = "Stop auto-play before changing the colony";
 
     private final Game game;
     private final CommandHistory commandHistory;
     private final EventBus eventBus;
+    private TickScheduler tickScheduler;
 
     public GameController(Game game) {
         this.game = game;
         this.commandHistory = new CommandHistory();
-        this.eventBus = EventBus.getInstance();
+        this.eventBus = game.getEventBus();
 
         LOGGER.info("GameController initialized");
     }
@@ -47,7 +60,21 @@ public class GameController {
 
         // Create and execute the command
         Command command = new PlaceBuildingCommand(game.getBuildingManager(), building, tile);
-        return commandHistory.executeCommand(command);
+        return execute(command);
+    }
+
+    /**
+     * Places every building in a blueprint as a single undoable action.
+     *
+     * @param blueprint The blueprint to place
+     * @return A Result indicating success or failure
+     */
+    public Result<?> placeBlueprint(Blueprint blueprint) {
+        LOGGER.info("Requesting to place " + blueprint);
+
+        // Create and execute the command
+        Command command = new PlaceBlueprintCommand(game.getBuildingManager(), blueprint);
+        return execute(command);
     }
 
     /**
@@ -61,7 +88,7 @@ public class GameController {
 
         // Create and execute the command
         Command command = new DemolishBuildingCommand(game.getBuildingManager(), building);
-        return commandHistory.executeCommand(command);
+        return execute(command);
     }
 
     /**
@@ -76,7 +103,10 @@ public class GameController {
 
         // Execute the command
         Command command = new ActivateDeactivateBuildingCommand(building, activate);
-        Result<?> result = commandHistory.executeCommand(command);
+        Result<?> result = execute(command);
+        if (result.isFailure()) {
+            return result;
+        }
 
         // Force resource recalculation
         game.getResourceManager().recalculateProduction();
@@ -84,6 +114,22 @@ public class GameController {
         return result;
     }
 
+    /**
+     * Activates or deactivates every building matched by a selector as one
+     * undoable action, with a single production update.
+     *
+     * @param selector The buildings to modify, by type, region or predicate
+     * @param activate Whether to activate (true) or deactivate (false)
+     * @return A Result indicating success or failure
+     */
+    public Result<?> setActiveWhere(BuildingSelector selector, boolean activate) {
+        LOGGER.info("Requesting bulk active state change to " + activate);
+
+        // Create and execute the command
+        Command command = new BulkActivateBuildingsCommand(game.getBuildingManager(), selector, activate);
+        return execute(command);
+    }
+
     /**
      * Toggles a building's active state.
      *
@@ -95,7 +141,7 @@ public class GameController {
 
         // Create and execute the command
         Command command = new ActivateDeactivateBuildingCommand(building, !building.isActive());
-        return commandHistory.executeCommand(command);
+        return execute(command);
     }
 
     /**
@@ -108,7 +154,7 @@ public class GameController {
 
         // Create and execute the command
         Command command = new AdvancePhaseCommand(this);
-        Result<?> result = commandHistory.executeCommand(command);
+        Result<?> result = execute(command);
 
         // Cast the result to the correct type
         if (result.isSuccess()) {
@@ -120,7 +166,8 @@ public class GameController {
     }
 
     /**
-     * Executes the current phase.
+     * Executes the current phase. If a phase handler fails, the game stays in
+     * the phase that failed.
      *
      * @return A Result indicating success or failure
      */
@@ -128,24 +175,117 @@ public class GameController {
         TurnPhase currentPhase = game.getTurnManager().getCurrentPhase();
         LOGGER.info("Executing phase: " + currentPhase.getName());
 
-        // Mark current phase as completed
-        game.getTurnManager().setPhaseCompleted(true);
+        // Execute the current phase and run on until a phase needs input;
+        // the turn manager publishes each transition
+        TurnPhase newPhase;
+        try {
+            newPhase = game.getTurnManager().completePhase();
+        } catch (RuntimeException e) {
+            return Result.failure("Phase " + game.getTurnManager().getCurrentPhase().getName()
+                    + " failed: " + e.getMessage());
+        }
+        LOGGER.info("Phase execution complete, now in: " + newPhase.getName());
 
-        // Execute the current phase
-        game.getTurnManager().executeCurrentPhase();
-        game.getTurnManager().advancePhase();
+        return Result.success(newPhase);
+    }
 
-        TurnPhase newPhase = game.getTurnManager().getCurrentPhase();
-        LOGGER.info("Phase execution complete, now in: " + newPhase.getName());
+    /**
+     * Plays a number of whole turns with the event bus muted, then publishes
+     * a single {@link FastForwardEvent} so the UI can resynchronize once.
+     *
+     * @param turns The number of turns to play
+     * @return A Result containing the summary event, or a failure
+     */
+    public Result<FastForwardEvent> fastForward(int turns) {
+        if (isAutoPlaying()) {
+            return Result.failure(AUTO_PLAYING);
+        }
+        if (turns <= 0) {
+            return Result.failure("Turn count must be positive");
+        }
 
-        // Publish phase changed event
-        eventBus.publish(TurnEvent.phaseChanged(
-                this, game.getCurrentTurn(), newPhase, currentPhase));
+        TurnManager turnManager = game.getTurnManager();
+        int fromTurn = turnManager.getTurnNumber();
+        LOGGER.info("Fast-forwarding " + turns + " turns from turn " + fromTurn);
 
-        return Result.success(newPhase);
+        // Turns played outside the command history cannot be undone, and earlier commands no longer apply
+        commandHistory.clear();
+
+        long start = System.nanoTime();
+        EventBus.MuteScope muted = eventBus.mute();
+        try (muted) {
+            turnManager.advanceTurns(turns);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        FastForwardEvent summary = new FastForwardEvent(this, fromTurn, turnManager.getTurnNumber(),
+                muted.getMutedCount(), muted.getMutedCount(GameEvent.EventType.RESOURCE_SHORTAGE), elapsed);
+        eventBus.publish(summary);
+
+        LOGGER.info(String.format("Fast-forwarded to turn %d in %.1f ms, %d events muted",
+                summary.getToTurn(), elapsed / 1e6, summary.getMutedEvents()));
+        return Result.success(summary);
     }
 
+    /**
+     * Starts playing turns automatically on a simulation thread. Pause and
+     * resume with {@link Game#setPaused}.
+     *
+     * @param turnsPerSecond The number of turns to play per second
+     * @return A Result containing the scheduler, or a failure
+     */
+    public Result<TickScheduler> startAutoPlay(double turnsPerSecond) {
+        if (isAutoPlaying()) {
+            return Result.failure("Auto-play is already running");
+        }
+        if (!(turnsPerSecond > 0) || Double.isInfinite(turnsPerSecond)) {
+            return Result.failure("Turn rate must be positive");
+        }
+
+        LOGGER.info("Starting auto-play at " + turnsPerSecond + " turns/sec");
+        TickScheduler scheduler = new TickScheduler(game, turnsPerSecond);
+        Result<Void> started = scheduler.start();
+        if (started.isFailure()) {
+            return Result.failure(started.getErrorMessage());
+        }
 
+        tickScheduler = scheduler;
+        commandHistory.clear();
+        return Result.success(scheduler);
+    }
+
+    /**
+     * Stops auto-play, waiting for the turn in progress to finish.
+     */
+    public void stopAutoPlay() {
+        if (tickScheduler != null) {
+            LOGGER.info("Stopping auto-play");
+            tickScheduler.stop();
+            tickScheduler = null;
+        }
+    }
+
+    /**
+     * Checks if turns are being played automatically.
+     *
+     * @return true if auto-play is running
+     */
+    public boolean isAutoPlaying() {
+        return tickScheduler != null && tickScheduler.isRunning();
+    }
+
+    /**
+     * Executes a player command unless auto-play is running. The simulation
+     * thread owns the game until auto-play stops, so commands from the UI
+     * thread are rejected rather than run alongside it.
+     */
+    private Result<?> execute(Command command) {
+        if (isAutoPlaying()) {
+            LOGGER.fine("Rejected " + command.getClass().getSimpleName() + " during auto-play");
+            return Result.failure(AUTO_PLAYING);
+        }
+        return commandHistory.executeCommand(command);
+    }
 
     /**
      * Undoes the last action if possible.
@@ -154,6 +294,9 @@ public class GameController {
      */
     public Result<?> undo() {
         LOGGER.info("Attempting to undo last action");
+        if (isAutoPlaying()) {
+            return Result.failure(AUTO_PLAYING);
+        }
         return commandHistory.undo();
     }
 
@@ -164,6 +307,9 @@ public class GameController {
      */
     public Result<?> redo() {
         LOGGER.info("Attempting to redo last undone action");
+        if (isAutoPlaying()) {
+            return Result.failure(AUTO_PLAYING);
+        }
         return commandHistory.redo();
     }
 
@@ -0,0 +1,104 @@
+package com.colonygenesis.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records how to reverse the changes made to a game while a
+ * {@link ChangeSet} is open.
+ *
+ * <p>Subsystems call {@link #record} at each point where they mutate state,
+ * passing an action that puts back what was there before. Nothing is copied
+ * up front: a change set holds one entry per change made while it was open,
+ * and state that was not touched is shared with the live game. Rolling a set
+ * back runs its entries newest first, which returns every recorded piece of
+ * state to its value when the set was opened. This is an undo log rather
+ * than a persistent structure: recording and rolling back both cost time in
+ * proportion to the number of entries, not constant time.</p>
+ *
+ * <p>Bulk state records at a coarser grain to keep entries few; the
+ * colonist pool, for example, saves whole blocks of colonists on their
+ * first write in a turn.</p>
+ *
+ * <p>Recording is only active on the thread playing the game. Code that
+ * changes state on worker threads records its undo entries before handing
+ * the work out.</p>
+ */
+public class ChangeLog {
+    private ChangeSet active;
+
+    /**
+     * Starts recording changes.
+     *
+     * @return The open change set; close it to stop recording
+     * @throws IllegalStateException if a change set is already open
+     */
+    public ChangeSet begin() {
+        if (active != null) {
+            throw new IllegalStateException("A change set is already open");
+        }
+        active = new ChangeSet();
+        return active;
+    }
+
+    /**
+     * Records how to reverse a change that is about to be made. Does
+     * nothing unless a change set is open.
+     *
+     * @param undo The action restoring the state before the change
+     */
+    public void record(Runnable undo) {
+        if (active != null) {
+            active.entries.add(undo);
+        }
+    }
+
+    /**
+     * Checks if changes are being recorded.
+     *
+     * @return true if a change set is open
+     */
+    public boolean isRecording() {
+        return active != null;
+    }
+
+    /**
+     * The undo entries recorded between {@link ChangeLog#begin} and
+     * {@link #close}.
+     */
+    public final class ChangeSet implements AutoCloseable {
+        private final List<Runnable> entries = new ArrayList<>();
+
+        private ChangeSet() {
+        }
+
+        /**
+         * Stops recording. Rolling back is still possible afterwards.
+         */
+        @Override
+        public void close() {
+            if (active == this) {
+                active = null;
+            }
+        }
+
+        /**
+         * Reverses every recorded change, newest first, and empties the set.
+         * The set is closed first so the reversal itself is not recorded.
+         */
+        public void rollback() {
+            close();
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                entries.get(i).run();
+            }
+            entries.clear();
+        }
+
+        /**
+         * Gets the number of changes recorded.
+         */
+        public int size() {
+            return entries.size();
+        }
+    }
+}
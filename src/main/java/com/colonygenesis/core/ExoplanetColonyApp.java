@@ -44,9 +44,6 @@ public class ExoplanetColonyApp extends Application {
         primaryStage.setScene(scene);
         primaryStage.show();
 
-        // After UI is shown, store reference in Game
-        game.setUserInterface(ui);
-
         LOGGER.info("Application started successfully");
     }
 
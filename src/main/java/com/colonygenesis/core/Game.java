@@ -5,9 +5,8 @@ import com.colonygenesis.event.EventBus;
 import com.colonygenesis.event.events.GameStateEvent;
 import com.colonygenesis.map.Planet;
 import com.colonygenesis.map.PlanetType;
-import com.colonygenesis.map.TerrainType;
+import com.colonygenesis.population.PopulationManager;
 import com.colonygenesis.resource.ResourceManager;
-import com.colonygenesis.ui.UserInterface;
 import com.colonygenesis.util.LoggerUtils;
 
 import java.util.logging.Logger;
@@ -15,41 +14,58 @@ import java.util.logging.Logger;
 public class Game {
     private static final Logger LOGGER = LoggerUtils.getLogger(Game.class);
 
+    private static final int DEFAULT_PLANET_WIDTH = 30;
+    private static final int DEFAULT_PLANET_HEIGHT = 20;
+
     // Game state
     private boolean initialized = false;
-    private boolean running = false;
-    private boolean paused = false;
+    private volatile boolean running = false;
+    private volatile boolean paused = false;
 
     // Game components
     private int currentTurn = 0;
     private Planet planet;
     private ResourceManager resourceManager;
     private TurnManager turnManager;
-    private UserInterface userInterface;
     private BuildingManager buildingManager;
+    private PopulationManager populationManager;
+    private RandomService random;
+    private StateHash stateHash;
+    private ChangeLog changeLog;
     private final EventBus eventBus;
 
     public Game() {
-        eventBus = EventBus.getInstance();
+        eventBus = new EventBus();
         LOGGER.info("Game instance created");
     }
 
     public void initializeGame() {
-        LOGGER.info("Initializing game");
+        initializeGame(DEFAULT_PLANET_WIDTH, DEFAULT_PLANET_HEIGHT, RandomService.newSeed());
+    }
+
+    /**
+     * Initializes the game on a planet of a given size generated from a seed.
+     *
+     * @param width The planet grid width
+     * @param height The planet grid height
+     * @param seed The game seed every random stream is derived from
+     */
+    public void initializeGame(int width, int height, long seed) {
+        LOGGER.info("Initializing game with seed " + seed);
+        this.random = new RandomService(seed);
+        this.stateHash = new StateHash();
+        this.changeLog = new ChangeLog();
 
         // Initialize managers
         this.turnManager = new TurnManager(this);
         this.resourceManager = new ResourceManager(this);
         this.buildingManager = new BuildingManager(this);
+        this.populationManager = new PopulationManager(this);
 
         // Create a default planet
-        this.planet = new Planet("New Colony", PlanetType.TEMPERATE, 30, 20);
+        this.planet = new Planet("New Colony", PlanetType.TEMPERATE, width, height, random);
         this.planet.generateTerrain();
-
-        // Initialize terrain resource modifiers
-        for (TerrainType terrain : TerrainType.values()) {
-            terrain.initializeResourceModifiers();
-        }
+        stateHash.track(planet.getGrid());
 
         // Set initial game state
         this.currentTurn = 1;
@@ -68,14 +84,20 @@ public class Game {
         // Reset game state
         this.currentTurn = 1;
 
-        // Generate new planet - we'll implement planet generation later
-        this.planet = new Planet("New Colony", PlanetType.TEMPERATE, 30, 20);
+        // Generate new planet from a fresh seed
+        this.random = new RandomService(RandomService.newSeed());
+        this.stateHash = new StateHash();
+        this.changeLog = new ChangeLog();
+        this.planet = new Planet("New Colony", PlanetType.TEMPERATE, DEFAULT_PLANET_WIDTH, DEFAULT_PLANET_HEIGHT, random);
         this.planet.generateTerrain();
+        stateHash.track(planet.getGrid());
 
-        // Reset managers
+        // Reset managers; sticky events from the previous game no longer apply
+        eventBus.clearStickyEvents();
         this.turnManager = new TurnManager(this);
         this.resourceManager = new ResourceManager(this);
         this.buildingManager = new BuildingManager(this);
+        this.populationManager = new PopulationManager(this);
 
         // Start the game
         this.running = true;
@@ -94,7 +116,7 @@ public class Game {
 
     public void setCurrentTurn(int turn) {
         if (this.currentTurn != turn) {
-            LOGGER.info("Game turn changing: " + this.currentTurn + " → " + turn);
+            LOGGER.fine("Game turn changing: " + this.currentTurn + " → " + turn);
         }
         this.currentTurn = turn;
     }
@@ -138,15 +160,56 @@ public class Game {
         return buildingManager;
     }
 
-    public Planet getPlanet() {
-        return planet;
+    public PopulationManager getPopulationManager() {
+        return populationManager;
+    }
+
+    /**
+     * Gets the event bus this game's managers and buildings publish to.
+     *
+     * @return The game's event bus
+     */
+    public EventBus getEventBus() {
+        return eventBus;
     }
 
-    public void setUserInterface(UserInterface ui) {
-        this.userInterface = ui;
+    /**
+     * Gets the service every random number in this game is drawn from.
+     *
+     * @return The game's random number service
+     */
+    public RandomService getRandom() {
+        return random;
     }
 
-    public UserInterface getUserInterface() {
-        return userInterface;
+    /**
+     * Gets the seed this game was generated from.
+     *
+     * @return The game seed
+     */
+    public long getSeed() {
+        return random.getSeed();
+    }
+
+    /**
+     * Gets the incrementally maintained hash of this game's state.
+     *
+     * @return The game's state hash
+     */
+    public StateHash getStateHash() {
+        return stateHash;
+    }
+
+    /**
+     * Gets the log subsystems record undo entries in while a change set is open.
+     *
+     * @return The game's change log
+     */
+    public ChangeLog getChangeLog() {
+        return changeLog;
+    }
+
+    public Planet getPlanet() {
+        return planet;
     }
 }
\ No newline at end of file
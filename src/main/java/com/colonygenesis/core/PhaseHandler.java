@@ -0,0 +1,19 @@
+package com.colonygenesis.core;
+
+/**
+ * A unit of work run by the {@link TurnManager} when a phase executes.
+ *
+ * <p>Handlers are registered per {@link TurnPhase} and run in registration
+ * order. Each handler's run time is recorded in the turn manager's
+ * {@link PhaseStatistics}.</p>
+ */
+@FunctionalInterface
+public interface PhaseHandler {
+
+    /**
+     * Performs this handler's work for the current phase.
+     *
+     * @param game The game whose phase is executing
+     */
+    void execute(Game game);
+}
@@ -0,0 +1,149 @@
+package com.colonygenesis.core;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Run time of the phase handlers registered with a {@link TurnManager}.
+ *
+ * <p>Totals are kept per phase and per handler since the game started, and
+ * the cost of each phase is also kept for the current and the last completed
+ * turn so a per-turn breakdown is available. All times are in nanoseconds.</p>
+ */
+public class PhaseStatistics {
+    private final Map<TurnPhase, Timing> phaseTimings = new EnumMap<>(TurnPhase.class);
+    private final Map<TurnPhase, Map<String, Timing>> handlerTimings = new EnumMap<>(TurnPhase.class);
+    private final EnumMap<TurnPhase, Long> currentTurn = new EnumMap<>(TurnPhase.class);
+    private EnumMap<TurnPhase, Long> lastTurn = new EnumMap<>(TurnPhase.class);
+    private int lastTurnNumber;
+
+    PhaseStatistics() {
+        for (TurnPhase phase : TurnPhase.values()) {
+            phaseTimings.put(phase, new Timing());
+            handlerTimings.put(phase, new LinkedHashMap<>());
+        }
+    }
+
+    synchronized void recordHandler(TurnPhase phase, String handler, long nanos) {
+        handlerTimings.get(phase).computeIfAbsent(handler, name -> new Timing()).record(nanos);
+    }
+
+    synchronized void recordPhase(TurnPhase phase, long nanos) {
+        phaseTimings.get(phase).record(nanos);
+        currentTurn.merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * Closes the breakdown of a finished turn and starts a new one.
+     *
+     * @param turnNumber The turn that finished
+     */
+    synchronized void endTurn(int turnNumber) {
+        lastTurn = new EnumMap<>(currentTurn);
+        lastTurnNumber = turnNumber;
+        currentTurn.clear();
+    }
+
+    /**
+     * Gets the accumulated timing of a phase.
+     *
+     * @param phase The phase
+     * @return A copy of the phase's timing
+     */
+    public synchronized Timing getPhaseTiming(TurnPhase phase) {
+        return phaseTimings.get(phase).copy();
+    }
+
+    /**
+     * Gets the accumulated timing of each handler of a phase, in registration order.
+     *
+     * @param phase The phase
+     * @return A copy of the timings keyed by handler name
+     */
+    public synchronized Map<String, Timing> getHandlerTimings(TurnPhase phase) {
+        Map<String, Timing> copy = new LinkedHashMap<>();
+        for (Map.Entry<String, Timing> entry : handlerTimings.get(phase).entrySet()) {
+            copy.put(entry.getKey(), entry.getValue().copy());
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Gets the time spent in each phase during the last completed turn.
+     *
+     * @return The phase costs of the last completed turn
+     */
+    public synchronized Map<TurnPhase, Long> getLastTurnBreakdown() {
+        return Collections.unmodifiableMap(new EnumMap<>(lastTurn));
+    }
+
+    /**
+     * Gets the number of the turn described by {@link #getLastTurnBreakdown()}.
+     */
+    public synchronized int getLastTurnNumber() {
+        return lastTurnNumber;
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder text = new StringBuilder("PhaseStatistics{");
+        for (Map.Entry<TurnPhase, Timing> entry : phaseTimings.entrySet()) {
+            Timing timing = entry.getValue();
+            if (timing.getCount() == 0) {
+                continue;
+            }
+            text.append(String.format("%s=%d runs, mean %.1f us, max %.1f us; ",
+                    entry.getKey().getName(), timing.getCount(),
+                    timing.getMeanNanos() / 1_000.0, timing.getMaxNanos() / 1_000.0));
+        }
+        return text.append('}').toString();
+    }
+
+    /**
+     * Count, total and maximum of a series of run times.
+     */
+    public static class Timing {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long lastNanos;
+
+        void record(long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            lastNanos = nanos;
+        }
+
+        Timing copy() {
+            Timing copy = new Timing();
+            copy.count = count;
+            copy.totalNanos = totalNanos;
+            copy.maxNanos = maxNanos;
+            copy.lastNanos = lastNanos;
+            return copy;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public long getLastNanos() {
+            return lastNanos;
+        }
+
+        public double getMeanNanos() {
+            return count > 0 ? (double) totalNanos / count : 0.0;
+        }
+    }
+}
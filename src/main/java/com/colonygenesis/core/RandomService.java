@@ -0,0 +1,102 @@
+package com.colonygenesis.core;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Source of every random number a game uses, derived from one game seed.
+ *
+ * <p>Each subsystem draws from its own named stream. A stream's seed depends
+ * only on the game seed and the stream name, so the numbers one subsystem
+ * sees do not change when another draws more or less, or asks for its
+ * stream first. Saving the game seed is enough to reproduce a game exactly.</p>
+ *
+ * <p>Streams are {@link SplittableRandom}s and are not thread-safe: a stream
+ * belongs to one subsystem on one thread. Work split across threads should
+ * take a fresh stream per task from {@link #newStream(String)} with a task
+ * specific name, so results do not depend on scheduling.</p>
+ */
+public class RandomService {
+    /** Terrain generation. */
+    public static final String TERRAIN = "terrain";
+    /** Placement and naming of resource deposits. */
+    public static final String DEPOSITS = "deposits";
+    /** Planetary events. */
+    public static final String EVENTS = "events";
+    /** Effects of resource shortages. */
+    public static final String SHORTAGES = "shortages";
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long seed;
+    private final Map<String, SplittableRandom> streams = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a service whose streams are all derived from a seed.
+     *
+     * @param seed The game seed
+     */
+    public RandomService(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Picks a seed for a new game.
+     *
+     * @return A seed drawn from an unseeded generator
+     */
+    public static long newSeed() {
+        return new SplittableRandom().nextLong();
+    }
+
+    /**
+     * Gets the shared stream for a subsystem, creating it on first use.
+     *
+     * @param name The stream name, e.g. {@link #TERRAIN}
+     * @return The stream; the same instance on every call with this name
+     */
+    public SplittableRandom stream(String name) {
+        return streams.computeIfAbsent(name, this::newStream);
+    }
+
+    /**
+     * Creates a new generator at the start of a named stream. Every call
+     * with the same name returns a generator producing the same numbers.
+     *
+     * @param name The stream name
+     * @return A new generator seeded for that name
+     */
+    public SplittableRandom newStream(String name) {
+        return new SplittableRandom(mix(seed ^ hashName(name)));
+    }
+
+    /**
+     * Hashes a stream name to 64 bits by folding each character through
+     * {@link #mix}. Unlike {@link String#hashCode()}, names that collide in
+     * 32 bits such as "Aa" and "BB" get different streams.
+     */
+    static long hashName(String name) {
+        long h = name.length();
+        for (int i = 0; i < name.length(); i++) {
+            h = mix(h + (name.charAt(i) + 1L) * GOLDEN_GAMMA);
+        }
+        return h;
+    }
+
+    /**
+     * Gets the game seed every stream is derived from.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * SplitMix64 finalizer: spreads every input bit over the whole output.
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,158 @@
+package com.colonygenesis.core;
+
+import com.colonygenesis.building.Building;
+import com.colonygenesis.map.HexGrid;
+import com.colonygenesis.map.TerrainType;
+import com.colonygenesis.map.Tile;
+import com.colonygenesis.resource.ResourceType;
+
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Incrementally maintained hash of a game's state, in the style of Zobrist
+ * hashing.
+ *
+ * <p>Every piece of tracked state (a tile's terrain, a building on a tile
+ * with its type, active flag and remaining construction time, a resource
+ * stockpile) maps to a pseudo-random 64-bit key, and the hash is the XOR of
+ * the keys of the current state. A mutation XORs out the old key and XORs in
+ * the new one, so keeping the hash current costs O(1) per change and
+ * comparing two games costs O(1). XOR is commutative, so the hash does not
+ * depend on the order of changes, including changes made by parallel
+ * workers.</p>
+ *
+ * <p>Population is not tracked yet.</p>
+ */
+public class StateHash {
+    private static final long TERRAIN = 0x5445525241494EL;
+    private static final long BUILDING = 0x4255494C44494EL;
+    private static final long RESOURCE = 0x5245534F555243L;
+
+    private final LongAccumulator value = new LongAccumulator((a, b) -> a ^ b, 0L);
+
+    /**
+     * Adds the terrain and buildings of every tile in a grid to the hash and
+     * makes the tiles report later changes to it.
+     *
+     * @param grid The grid to track
+     */
+    public void track(HexGrid grid) {
+        for (int x = 0; x < grid.getWidth(); x++) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                Tile tile = grid.getTileAt(x, y);
+                if (tile == null) {
+                    continue;
+                }
+                toggle(terrainKey(tile, tile.getTerrainType()));
+                if (tile.hasBuilding()) {
+                    toggle(buildingKey(tile, tile.getBuilding()));
+                }
+                tile.setStateHash(this);
+            }
+        }
+    }
+
+    /**
+     * Adds a key to the hash, or removes it if it is already included.
+     *
+     * @param key The key of a piece of state
+     */
+    public void toggle(long key) {
+        value.accumulate(key);
+    }
+
+    /**
+     * Replaces the key of a piece of state that changed.
+     *
+     * @param before The key of the old state
+     * @param after The key of the new state
+     */
+    public void replace(long before, long after) {
+        value.accumulate(before ^ after);
+    }
+
+    /**
+     * Gets the current hash. Call when no mutation is in progress.
+     */
+    public long getValue() {
+        return value.get();
+    }
+
+    /**
+     * Computes the key of a tile's terrain.
+     */
+    public static long terrainKey(Tile tile, TerrainType terrain) {
+        return key(TERRAIN, tile.getX(), tile.getY(), terrain != null ? terrain.ordinal() : -1);
+    }
+
+    /**
+     * Computes the key of a building standing on a tile, from its current state.
+     */
+    public static long buildingKey(Tile tile, Building building) {
+        long state = building.getName().hashCode();
+        state = state * 31 + building.getType().ordinal();
+        state = state * 31 + (building.isActive() ? 1 : 0);
+        state = state * 31 + building.getRemainingConstructionTime();
+        return key(BUILDING, tile.getX(), tile.getY(), state);
+    }
+
+    /**
+     * Computes the key of a resource stockpile holding an amount.
+     */
+    public static long resourceKey(ResourceType type, int amount) {
+        return key(RESOURCE, type.ordinal(), 0, amount);
+    }
+
+    /**
+     * Computes a game's hash from scratch. Equal to the incrementally
+     * maintained hash unless a mutation bypassed it.
+     *
+     * @param game The game
+     * @return The hash of the game's current state
+     */
+    public static long compute(Game game) {
+        StateHash hash = new StateHash();
+        HexGrid grid = game.getPlanet().getGrid();
+        for (int x = 0; x < grid.getWidth(); x++) {
+            for (int y = 0; y < grid.getHeight(); y++) {
+                Tile tile = grid.getTileAt(x, y);
+                if (tile != null) {
+                    hash.toggle(terrainKey(tile, tile.getTerrainType()));
+                    if (tile.hasBuilding()) {
+                        hash.toggle(buildingKey(tile, tile.getBuilding()));
+                    }
+                }
+            }
+        }
+        for (ResourceType type : ResourceType.values()) {
+            hash.toggle(resourceKey(type, game.getResourceManager().getResource(type)));
+        }
+        return hash.getValue();
+    }
+
+    /**
+     * Finds the first turn at which two runs' per-turn hashes differ.
+     *
+     * @param expected The hashes of a reference run, from {@link TurnManager#getTurnHashes()}
+     * @param actual The hashes of the run to check
+     * @return The first divergent turn number, or -1 if the common turns match
+     */
+    public static int firstDivergentTurn(long[] expected, long[] actual) {
+        int turns = Math.min(expected.length, actual.length);
+        for (int i = 0; i < turns; i++) {
+            if (expected[i] != actual[i]) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static long key(long kind, int a, int b, long state) {
+        return RandomService.mix(RandomService.mix(RandomService.mix(kind + a) + b) + state);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x", getValue());
+    }
+}
@@ -0,0 +1,200 @@
+package com.colonygenesis.core;
+
+import com.colonygenesis.event.EventBus;
+import com.colonygenesis.event.GameEvent;
+import com.colonygenesis.event.events.FastForwardEvent;
+import com.colonygenesis.util.LoggerUtils;
+import com.colonygenesis.util.Result;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Plays turns on a dedicated simulation thread at a fixed rate.
+ *
+ * <p>The scheduler uses a fixed timestep: each turn is due one period after
+ * the previous one, and turns that fell due while the thread was busy are
+ * caught up, up to {@link #MAX_CATCH_UP_TURNS} at a time, so the long-run
+ * rate stays constant. While {@link Game#isPaused()} is true no turns are
+ * played, and the schedule restarts on resume instead of catching up.</p>
+ *
+ * <p>Game state belongs to the simulation thread while the scheduler runs.
+ * Its events are muted, so UI-bound listeners are not called from that
+ * thread; other listeners, such as a journal, still are. After
+ * each round of turns it publishes a {@link TickSnapshot} that a renderer
+ * takes with {@link #pollSnapshot()} once per frame. A slow frame only
+ * means intermediate snapshots are skipped. When the scheduler stops it
+ * publishes one {@link FastForwardEvent} so the UI can resynchronize.</p>
+ */
+public class TickScheduler {
+    private static final Logger LOGGER = LoggerUtils.getLogger(TickScheduler.class);
+
+    /** The most overdue turns played in one round before the schedule is reset. */
+    public static final int MAX_CATCH_UP_TURNS = 10;
+
+    private static final long PAUSE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final Game game;
+    private final AtomicReference<TickSnapshot> latestSnapshot = new AtomicReference<>();
+    private volatile long periodNanos;
+    private volatile boolean running;
+    private volatile Thread thread;
+    private volatile long ticks;
+    private volatile long skippedTurns;
+
+    /**
+     * Creates a scheduler for a game.
+     *
+     * @param game The game to advance
+     * @param turnsPerSecond The number of turns to play per second
+     */
+    public TickScheduler(Game game, double turnsPerSecond) {
+        this.game = game;
+        this.periodNanos = periodOf(turnsPerSecond);
+    }
+
+    /**
+     * Starts playing turns on a new simulation thread.
+     *
+     * @return A Result indicating success, or a failure if already running
+     */
+    public synchronized Result<Void> start() {
+        if (running) {
+            return Result.failure("Tick scheduler is already running");
+        }
+        if (game.getTurnManager() == null) {
+            return Result.failure("Game is not initialized");
+        }
+
+        running = true;
+        thread = new Thread(this::run, "simulation-tick");
+        thread.setDaemon(true);
+        thread.start();
+
+        LOGGER.info(String.format("Tick scheduler started at %.1f turns/sec", getTurnsPerSecond()));
+        return Result.success(null);
+    }
+
+    /**
+     * Stops the simulation thread and waits for the turn in progress to finish.
+     */
+    public synchronized void stop() {
+        Thread current = thread;
+        if (!running || current == null) {
+            return;
+        }
+
+        running = false;
+        LockSupport.unpark(current);
+        if (current != Thread.currentThread()) {
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+
+        LOGGER.info("Tick scheduler stopped after " + ticks + " turns");
+    }
+
+    private void run() {
+        EventBus eventBus = game.getEventBus();
+        TurnManager turnManager = game.getTurnManager();
+        int fromTurn = turnManager.getTurnNumber();
+        long start = System.nanoTime();
+
+        EventBus.MuteScope muted = eventBus.mute();
+        try (muted) {
+            long nextTurn = System.nanoTime() + periodNanos;
+            while (running) {
+                if (game.isPaused()) {
+                    LockSupport.parkNanos(PAUSE_POLL_NANOS);
+                    nextTurn = System.nanoTime() + periodNanos;
+                    continue;
+                }
+
+                int played = 0;
+                while (running && System.nanoTime() - nextTurn >= 0 && played < MAX_CATCH_UP_TURNS) {
+                    turnManager.advanceTurns(1);
+                    ticks++;
+                    played++;
+                    nextTurn += periodNanos;
+                }
+
+                // Too far behind to catch up; drop the backlog rather than spiral
+                long behind = System.nanoTime() - nextTurn;
+                if (behind >= 0) {
+                    long dropped = behind / periodNanos + 1;
+                    skippedTurns += dropped;
+                    nextTurn += dropped * periodNanos;
+                    LOGGER.fine("Simulation fell behind, skipped " + dropped + " turns");
+                }
+
+                if (played > 0) {
+                    latestSnapshot.set(new TickSnapshot(ticks, game));
+                }
+
+                LockSupport.parkNanos(nextTurn - System.nanoTime());
+            }
+        } catch (RuntimeException e) {
+            running = false;
+            LOGGER.log(Level.SEVERE, "Simulation thread failed; tick scheduler stopped", e);
+        }
+
+        // UI-bound listeners missed every event while muted; let them catch up once
+        eventBus.publish(new FastForwardEvent(this, fromTurn, turnManager.getTurnNumber(),
+                muted.getMutedCount(), muted.getMutedCount(GameEvent.EventType.RESOURCE_SHORTAGE),
+                System.nanoTime() - start));
+    }
+
+    /**
+     * Takes the latest snapshot, if one was published since the last call.
+     *
+     * @return The snapshot, or null if nothing changed
+     */
+    public TickSnapshot pollSnapshot() {
+        return latestSnapshot.getAndSet(null);
+    }
+
+    /**
+     * Sets the rate turns are played at. Takes effect from the next turn.
+     *
+     * @param turnsPerSecond The number of turns per second
+     */
+    public void setTurnsPerSecond(double turnsPerSecond) {
+        this.periodNanos = periodOf(turnsPerSecond);
+    }
+
+    private static long periodOf(double turnsPerSecond) {
+        if (!(turnsPerSecond > 0) || Double.isInfinite(turnsPerSecond)) {
+            throw new IllegalArgumentException("Turn rate must be positive");
+        }
+        return Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / turnsPerSecond));
+    }
+
+    public double getTurnsPerSecond() {
+        return TimeUnit.SECONDS.toNanos(1) / (double) periodNanos;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets the number of turns played since the scheduler was created.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the number of due turns dropped because the simulation fell too far behind.
+     */
+    public long getSkippedTurns() {
+        return skippedTurns;
+    }
+}
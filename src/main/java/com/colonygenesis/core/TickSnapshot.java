@@ -0,0 +1,61 @@
+package com.colonygenesis.core;
+
+import com.colonygenesis.resource.ResourceType;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable view of the game state taken by the {@link TickScheduler} after
+ * it advanced the game, for display on another thread.
+ */
+public class TickSnapshot {
+    private final long tick;
+    private final int turnNumber;
+    private final TurnPhase phase;
+    private final Map<ResourceType, Integer> resources;
+    private final Map<ResourceType, Integer> netProduction;
+    private final int population;
+    private final int buildingCount;
+
+    TickSnapshot(long tick, Game game) {
+        this.tick = tick;
+        this.turnNumber = game.getTurnManager().getTurnNumber();
+        this.phase = game.getTurnManager().getCurrentPhase();
+        this.resources = Collections.unmodifiableMap(game.getResourceManager().getAllResources());
+        this.netProduction = Collections.unmodifiableMap(game.getResourceManager().getAllNetProduction());
+        this.population = game.getPopulationManager().getPopulation();
+        this.buildingCount = game.getBuildingManager().getBuildings().size();
+    }
+
+    /**
+     * Gets the number of turns the scheduler had played when this snapshot was taken.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    public int getTurnNumber() {
+        return turnNumber;
+    }
+
+    public TurnPhase getPhase() {
+        return phase;
+    }
+
+    public Map<ResourceType, Integer> getResources() {
+        return resources;
+    }
+
+    public Map<ResourceType, Integer> getNetProduction() {
+        return netProduction;
+    }
+
+    public int getPopulation() {
+        return population;
+    }
+
+    public int getBuildingCount() {
+        return buildingCount;
+    }
+}
@@ -4,10 +4,33 @@ import com.colonygenesis.event.EventBus;
 import com.colonygenesis.event.events.TurnEvent;
 import com.colonygenesis.util.LoggerUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+/**
+ * Tracks the turn number and phase and runs the work of each phase.
+ *
+ * <p>The work of a phase is a pipeline of {@link PhaseHandler}s run in
+ * registration order. Construction, population and production handlers are
+ * registered by default; other subsystems add their own with
+ * {@link #registerHandler}. Handlers of one phase run inside a single event
+ * batch, and each is timed into the {@link PhaseStatistics}.</p>
+ *
+ * <p>Phases advance in a flat loop: each step executes the current phase and
+ * then moves to the next, publishing exactly one transition event, so any
+ * number of turns can be played without growing the stack.</p>
+ */
 public class TurnManager {
     private static final Logger LOGGER = LoggerUtils.getLogger(TurnManager.class);
+    private static final TurnPhase[] PHASES = TurnPhase.values();
 
     private final Game game;
     private final EventBus eventBus;
@@ -15,29 +38,126 @@ public class TurnManager {
     private TurnPhase currentPhase;
     private boolean phaseCompleted;
 
+    private final Map<TurnPhase, List<NamedHandler>> handlers = new EnumMap<>(TurnPhase.class);
+    private final PhaseStatistics statistics = new PhaseStatistics();
+
+    // State hash at the end of each turn; index 0 holds turn 1
+    private long[] turnHashes = new long[64];
+    private int recordedTurns;
+
     public TurnManager(Game game) {
         this.game = game;
-        this.eventBus = EventBus.getInstance();
+        this.eventBus = game.getEventBus();
         this.turnNumber = 1;
         this.currentPhase = TurnPhase.PLANNING;
         this.phaseCompleted = false;
+        eventBus.setClock(turnNumber, currentPhase);
+
+        for (TurnPhase phase : TurnPhase.values()) {
+            handlers.put(phase, new CopyOnWriteArrayList<>());
+        }
+        registerDefaultHandlers();
+
+        // Give the bus a sticky turn and phase before the first transition; the
+        // game is the source because this manager is not fully constructed yet
+        eventBus.publish(TurnEvent.phaseChanged(game, turnNumber, currentPhase, null));
 
         LOGGER.info("TurnManager initialized at turn 1, phase: PLANNING");
     }
 
-    public void advanceTurn() {
+    private void registerDefaultHandlers() {
+        addHandler(TurnPhase.BUILDING, "construction", game -> {
+            if (game.getBuildingManager() != null) {
+                game.getBuildingManager().updateConstructionQueue();
+            }
+        });
+
+        // Colonists age and report their needs before the ledger is settled
+        addHandler(TurnPhase.PRODUCTION, "population", game -> {
+            if (game.getPopulationManager() != null) {
+                game.getPopulationManager().processTurn();
+            }
+        });
+        addHandler(TurnPhase.PRODUCTION, "production", game -> {
+            if (game.getResourceManager() != null) {
+                game.getResourceManager().processTurn();
+            }
+        });
+    }
+
+    /**
+     * Adds a handler to the end of a phase's pipeline.
+     *
+     * @param phase The phase the handler runs in
+     * @param name The handler's name, used for timing and unregistering
+     * @param handler The handler
+     */
+    public void registerHandler(TurnPhase phase, String name, PhaseHandler handler) {
+        if (phase == null || name == null || handler == null) {
+            throw new IllegalArgumentException("Phase, name and handler cannot be null");
+        }
+        addHandler(phase, name, handler);
+    }
+
+    private void addHandler(TurnPhase phase, String name, PhaseHandler handler) {
+        handlers.get(phase).add(new NamedHandler(name, handler));
+        LOGGER.fine("Registered phase handler " + name + " for " + phase.getName());
+    }
+
+    /**
+     * Removes a handler from a phase's pipeline.
+     *
+     * @param phase The phase the handler runs in
+     * @param name The handler's name
+     * @return true if a handler was removed
+     */
+    public boolean unregisterHandler(TurnPhase phase, String name) {
+        return handlers.get(phase).removeIf(entry -> entry.name.equals(name));
+    }
+
+    /**
+     * Gets the names of a phase's handlers in the order they run.
+     *
+     * @param phase The phase
+     * @return The handler names
+     */
+    public List<String> getHandlerNames(TurnPhase phase) {
+        List<String> names = new ArrayList<>();
+        for (NamedHandler entry : handlers.get(phase)) {
+            names.add(entry.name);
+        }
+        return names;
+    }
+
+    /**
+     * Gets the run times of the phase handlers.
+     *
+     * @return The phase statistics
+     */
+    public PhaseStatistics getPhaseStatistics() {
+        return statistics;
+    }
+
+    private void advanceTurn() {
         int previousTurn = turnNumber;
+        statistics.endTurn(previousTurn);
+        recordTurnHash(previousTurn);
         turnNumber++;
         currentPhase = TurnPhase.PLANNING;
         phaseCompleted = false;
 
-        LOGGER.info("Starting turn " + turnNumber);
+        LOGGER.fine("Starting turn " + turnNumber);
         game.setCurrentTurn(turnNumber);
+        eventBus.setClock(turnNumber, currentPhase);
 
         // Publish turn advanced event
         eventBus.publish(TurnEvent.turnAdvanced(this, turnNumber, previousTurn));
     }
 
+    /**
+     * Moves to the next phase without executing the current one, then runs
+     * any following phases that need no input.
+     */
     public void advancePhase() {
         // Make sure the current phase is completed if it requires input
         if (currentPhase.requiresInput() && !phaseCompleted) {
@@ -45,69 +165,193 @@ public class TurnManager {
             // Allow advancement in development for testing
         }
 
-        // Get the ordinal value of the current phase
-        int ordinal = currentPhase.ordinal();
-        TurnPhase previousPhase = currentPhase;
+        transition();
+        runAutomaticPhases();
+    }
 
-        // Get the next phase (or cycle back to PLANNING)
-        TurnPhase[] phases = TurnPhase.values();
-        currentPhase = phases[(ordinal + 1) % phases.length];
-        phaseCompleted = false;
+    /**
+     * Executes the current phase. A phase that needs input stays current so
+     * the player can continue it; otherwise the turn runs on until a phase
+     * needs input.
+     */
+    public void executeCurrentPhase() {
+        if (currentPhase.requiresInput()) {
+            executePhase();
+        } else {
+            runAutomaticPhases();
+        }
+    }
 
-        LOGGER.info("Phase changed to: " + currentPhase.getName());
+    /**
+     * Executes the current phase, moves past it and runs any following
+     * phases that need no input.
+     *
+     * @return The phase now waiting for input
+     */
+    public TurnPhase completePhase() {
+        step();
+        runAutomaticPhases();
+        return currentPhase;
+    }
 
-        // Publish phase changed event
-        eventBus.publish(TurnEvent.phaseChanged(this, turnNumber, currentPhase, previousPhase));
+    /**
+     * Plays whole turns, completing phases that would wait for input as well.
+     *
+     * @param turns The number of turns to play
+     * @return The number of phases executed
+     */
+    public int advanceTurns(int turns) {
+        if (turns < 0) {
+            throw new IllegalArgumentException("Turn count cannot be negative");
+        }
+        int targetTurn = turnNumber + turns;
+        return runUntil(manager -> manager.turnNumber >= targetTurn);
+    }
 
-        // If the phase doesn't require input, execute it immediately
-        if (!currentPhase.requiresInput()) {
-            executeCurrentPhase();
+    /**
+     * Executes phases one after another until a condition holds. The
+     * condition is checked before every phase, and phases that would wait
+     * for input are completed as well.
+     *
+     * @param condition The condition to stop at
+     * @return The number of phases executed
+     */
+    public int runUntil(Predicate<TurnManager> condition) {
+        int steps = 0;
+        while (!condition.test(this)) {
+            step();
+            steps++;
         }
+        return steps;
     }
 
-    public void executeCurrentPhase() {
-        LOGGER.info("Executing phase: " + currentPhase.getName());
-
-        switch (currentPhase) {
-            case PLANNING:
-                // Planning phase is for player decisions
-                // Nothing to execute automatically
-                break;
-
-            case BUILDING:
-                // Process construction progress
-                if (game.getBuildingManager() != null) {
-                    game.getBuildingManager().updateConstructionQueue();
-                }
-                break;
+    /**
+     * Moves the clock back to an earlier turn and phase, after the game
+     * state has been rolled back to match it. Hashes recorded for turns
+     * that have not ended at that point are discarded.
+     *
+     * @param turn The turn to return to
+     * @param phase The phase to return to
+     */
+    public void restore(int turn, TurnPhase phase) {
+        if (turn < 1 || phase == null) {
+            throw new IllegalArgumentException("Turn must be positive and phase cannot be null");
+        }
 
-            case PRODUCTION:
-                // Execute production phase logic
-                if (game.getResourceManager() != null) {
-                    game.getResourceManager().processTurn();
-                }
-                break;
+        TurnPhase previousPhase = currentPhase;
+        turnNumber = turn;
+        currentPhase = phase;
+        phaseCompleted = false;
+        recordedTurns = Math.min(recordedTurns, turn - 1);
 
-            case EVENTS:
-                // Execute events phase logic
-                // We'll implement this later
-                break;
+        LOGGER.fine("Restored turn " + turn + ", phase " + phase.getName());
+        game.setCurrentTurn(turn);
+        eventBus.setClock(turnNumber, currentPhase);
+        eventBus.publish(TurnEvent.phaseChanged(this, turnNumber, currentPhase, previousPhase));
+    }
 
-            case END_TURN:
-                // Execute end turn logic
-                // If we're at the end turn phase, advance to the next turn
-                advanceTurn();
-                break;
+    private void runAutomaticPhases() {
+        while (!currentPhase.requiresInput()) {
+            step();
         }
+    }
+
+    private void step() {
+        executePhase();
+        transition();
+    }
 
-        // Mark phase as completed
+    private void executePhase() {
+        LOGGER.fine("Executing phase: " + currentPhase.getName());
+        runHandlers(currentPhase);
         phaseCompleted = true;
+    }
 
-        System.out.println(currentPhase.requiresInput() + " " + currentPhase.getName() + " " + currentPhase + " " + (!currentPhase.requiresInput() && currentPhase != TurnPhase.END_TURN));
-        // After executing the phase, if it doesn't require input, move to the next one
-        if (!currentPhase.requiresInput() && currentPhase != TurnPhase.END_TURN) {
-            System.out.println(currentPhase.requiresInput() + " " + currentPhase.getName() + " " + currentPhase);
-            advancePhase();
+    /**
+     * Moves to the next phase and publishes the one event describing the
+     * move: the end of a turn starts the next turn, any other phase changes
+     * phase within the turn.
+     */
+    private void transition() {
+        if (currentPhase == TurnPhase.END_TURN) {
+            advanceTurn();
+            return;
+        }
+
+        TurnPhase previousPhase = currentPhase;
+        currentPhase = PHASES[previousPhase.ordinal() + 1];
+        phaseCompleted = false;
+
+        LOGGER.fine("Phase changed to: " + currentPhase.getName());
+        eventBus.setClock(turnNumber, currentPhase);
+        eventBus.publish(TurnEvent.phaseChanged(this, turnNumber, currentPhase, previousPhase));
+    }
+
+    private void recordTurnHash(int turn) {
+        StateHash stateHash = game.getStateHash();
+        if (stateHash == null || turn != recordedTurns + 1) {
+            return;
+        }
+        if (recordedTurns == turnHashes.length) {
+            turnHashes = Arrays.copyOf(turnHashes, turnHashes.length * 2);
+        }
+        turnHashes[recordedTurns++] = stateHash.getValue();
+        LOGGER.fine("Turn " + turn + " state hash " + stateHash);
+    }
+
+    /**
+     * Gets the state hash recorded at the end of a turn.
+     *
+     * @param turn The turn number
+     * @return The hash, or empty if the turn has not ended yet
+     */
+    public OptionalLong getTurnHash(int turn) {
+        if (turn < 1 || turn > recordedTurns) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(turnHashes[turn - 1]);
+    }
+
+    /**
+     * Gets the state hashes recorded at the end of every completed turn,
+     * starting with turn 1. Compare two runs with
+     * {@link StateHash#firstDivergentTurn}.
+     *
+     * @return A copy of the recorded hashes
+     */
+    public long[] getTurnHashes() {
+        return Arrays.copyOf(turnHashes, recordedTurns);
+    }
+
+    /**
+     * Runs a phase's handlers in order inside one event batch, timing each.
+     * A failing handler is logged and rethrown: the handlers after it are
+     * skipped and the phase is neither completed nor left, since they would
+     * run on state the failed handler may have left half updated.
+     */
+    private void runHandlers(TurnPhase phase) {
+        List<NamedHandler> pipeline = handlers.get(phase);
+        if (pipeline.isEmpty()) {
+            return;
+        }
+
+        long phaseStart = System.nanoTime();
+        EventBus.BatchScope batch = eventBus.openBatch();
+        try (batch) {
+            for (NamedHandler entry : pipeline) {
+                long start = System.nanoTime();
+                try {
+                    entry.handler.execute(game);
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.SEVERE, "Phase handler " + entry.name + " failed in " + phase.getName()
+                            + "; skipping the rest of the phase", e);
+                    throw e;
+                } finally {
+                    statistics.recordHandler(phase, entry.name, System.nanoTime() - start);
+                }
+            }
+        } finally {
+            statistics.recordPhase(phase, System.nanoTime() - phaseStart);
         }
     }
 
@@ -126,4 +370,14 @@ public class TurnManager {
     public void setPhaseCompleted(boolean completed) {
         this.phaseCompleted = completed;
     }
-}
\ No newline at end of file
+
+    private static final class NamedHandler {
+        private final String name;
+        private final PhaseHandler handler;
+
+        NamedHandler(String name, PhaseHandler handler) {
+            this.name = name;
+            this.handler = handler;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.colonygenesis.event;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded multi-producer, single-consumer queue in front of an asynchronous
+ * listener. Publishers enqueue from any thread; a virtual thread drains the
+ * queue and calls the listener in publish order.
+ */
+final class AsyncListenerQueue implements EventListener {
+    private static final Logger LOGGER = Logger.getLogger(AsyncListenerQueue.class.getName());
+
+    private final EventListener delegate;
+    private final OverflowPolicy policy;
+
+    // Ring buffer guarded by lock
+    private final GameEvent[] buffer;
+    private int head;
+    private int count;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    private volatile boolean closed;
+    private long droppedEvents;
+    private boolean busy; // True while the worker is delivering a drained batch
+    private final Thread worker;
+
+    AsyncListenerQueue(EventListener delegate, int capacity, OverflowPolicy policy) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.buffer = new GameEvent[capacity];
+        this.worker = Thread.ofVirtual()
+                .name("event-listener-" + delegate.getClass().getSimpleName())
+                .start(this::drain);
+    }
+
+    /**
+     * Enqueues an event, applying the overflow policy if the queue is full.
+     */
+    @Override
+    public void onEvent(GameEvent event) {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+
+            if (count == buffer.length && !makeRoom(event)) {
+                return;
+            }
+
+            buffer[(head + count) % buffer.length] = event;
+            count++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Frees a slot in a full queue.
+     *
+     * @return true if the event should still be appended, false if it was dropped
+     */
+    private boolean makeRoom(GameEvent event) {
+        switch (policy) {
+            case BLOCK:
+                // A listener publishing to itself would wait on its own thread forever
+                if (Thread.currentThread() != worker) {
+                    while (count == buffer.length && !closed) {
+                        notFull.awaitUninterruptibly();
+                    }
+                    return !closed;
+                }
+                dropOldest();
+                return true;
+            case COALESCE_BY_TYPE:
+                for (int i = count - 1; i >= 0; i--) {
+                    GameEvent queued = buffer[(head + i) % buffer.length];
+                    if (queued.getType() == event.getType() &&
+                            Objects.equals(queued.getTopicKey(), event.getTopicKey())) {
+                        // The replacement goes to the tail so it stays after events published before it
+                        remove(i);
+                        recordDrop();
+                        return true;
+                    }
+                }
+                dropOldest();
+                return true;
+            case DROP_OLDEST:
+            default:
+                dropOldest();
+                return true;
+        }
+    }
+
+    /**
+     * Removes the queued event at a position, closing the gap.
+     *
+     * @param position The position counted from the head of the queue
+     */
+    private void remove(int position) {
+        for (int i = position; i < count - 1; i++) {
+            buffer[(head + i) % buffer.length] = buffer[(head + i + 1) % buffer.length];
+        }
+        buffer[(head + count - 1) % buffer.length] = null;
+        count--;
+    }
+
+    private void dropOldest() {
+        buffer[head] = null;
+        head = (head + 1) % buffer.length;
+        count--;
+        recordDrop();
+    }
+
+    private void recordDrop() {
+        if (droppedEvents++ == 0) {
+            LOGGER.warning("Event queue full for " + delegate + ", applying " + policy);
+        }
+    }
+
+    private void drain() {
+        GameEvent[] batch = new GameEvent[buffer.length];
+
+        while (true) {
+            int taken;
+            lock.lock();
+            try {
+                busy = false;
+                notFull.signalAll();
+                while (count == 0 && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (closed) {
+                    return;
+                }
+
+                // Take everything queued so far in one lock acquisition
+                taken = count;
+                for (int i = 0; i < taken; i++) {
+                    int index = (head + i) % buffer.length;
+                    batch[i] = buffer[index];
+                    buffer[index] = null;
+                }
+                head = (head + taken) % buffer.length;
+                count = 0;
+                busy = true;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            for (int i = 0; i < taken; i++) {
+                try {
+                    delegate.onEvent(batch[i]);
+                } catch (Exception e) {
+                    LOGGER.log(Level.SEVERE, "Error dispatching event " + batch[i].getType() +
+                            " to listener " + delegate, e);
+                }
+                batch[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Waits until every queued event has been delivered.
+     *
+     * @param timeout The maximum time to wait
+     * @param unit The unit of the timeout
+     * @return true if the queue drained in time, false otherwise
+     */
+    boolean awaitIdle(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while ((count > 0 || busy) && !closed) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = notFull.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the worker. Events still queued are discarded.
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    EventListener getDelegate() {
+        return delegate;
+    }
+
+    long getDroppedEvents() {
+        lock.lock();
+        try {
+            return droppedEvents;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
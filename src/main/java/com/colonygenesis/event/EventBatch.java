@@ -0,0 +1,134 @@
+package com.colonygenesis.event;
+
+import com.colonygenesis.event.events.BuildingEvent;
+import com.colonygenesis.event.events.BuildingStateChangedEvent;
+import com.colonygenesis.event.events.ResourceEvent;
+import com.colonygenesis.event.events.TileEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Events buffered by an open batch scope on an {@link EventBus}.
+ *
+ * <p>Events that describe the latest state of one entity are coalesced: a
+ * later event for the same entity replaces the earlier one and is delivered at
+ * the later position, so the batch ends with each entity's final state. Activation and
+ * deactivation of a building share one slot, and successive changes to one
+ * resource merge into a single change from the first previous amount to the
+ * last amount. Events without an entity are kept as published.</p>
+ */
+final class EventBatch {
+    private static final Object BUILDING_STATE = new Object();
+
+    private final Thread owner;
+    private final List<GameEvent> events = new ArrayList<>();
+    private final Map<EntityKey, Integer> positions = new HashMap<>();
+    private int depth;
+    private int coalesced;
+
+    EventBatch(Thread owner) {
+        this.owner = owner;
+    }
+
+    Thread getOwner() {
+        return owner;
+    }
+
+    void enter() {
+        depth++;
+    }
+
+    /**
+     * Leaves one level of nesting.
+     *
+     * @return true if this was the outermost scope
+     */
+    boolean exit() {
+        return --depth == 0;
+    }
+
+    void add(GameEvent event) {
+        EntityKey key = keyOf(event);
+        if (key == null) {
+            events.add(event);
+            return;
+        }
+
+        Integer previous = positions.put(key, events.size());
+        if (previous != null) {
+            GameEvent replaced = events.set(previous, null);
+            event = merge(replaced, event);
+            coalesced++;
+        }
+        events.add(event);
+    }
+
+    /**
+     * Gets the buffered events in delivery order.
+     */
+    List<GameEvent> drain() {
+        List<GameEvent> ordered = new ArrayList<>(events.size() - coalesced);
+        for (GameEvent event : events) {
+            if (event != null) {
+                ordered.add(event);
+            }
+        }
+        return ordered;
+    }
+
+    int getCoalescedCount() {
+        return coalesced;
+    }
+
+    private static GameEvent merge(GameEvent earlier, GameEvent later) {
+        if (earlier instanceof ResourceEvent first && later instanceof ResourceEvent last) {
+            return new ResourceEvent(last.getSource(), last.getResourceType(),
+                    last.getAmount(), first.getPreviousAmount());
+        }
+        return later;
+    }
+
+    private static EntityKey keyOf(GameEvent event) {
+        if (event instanceof BuildingStateChangedEvent state) {
+            return new EntityKey(BUILDING_STATE, state.getBuilding());
+        }
+        if (event instanceof BuildingEvent building) {
+            return new EntityKey(event.getType(), building.getBuilding());
+        }
+        if (event instanceof ResourceEvent resource) {
+            return new EntityKey(event.getType(), resource.getResourceType());
+        }
+        if (event instanceof TileEvent tile) {
+            return new EntityKey(tile.getUpdateType(), tile.getTile());
+        }
+        return null;
+    }
+
+    /**
+     * What an event describes: a kind of change and the entity it applies to.
+     */
+    private static final class EntityKey {
+        private final Object kind;
+        private final Object entity;
+
+        EntityKey(Object kind, Object entity) {
+            this.kind = kind;
+            this.entity = entity;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof EntityKey other)) return false;
+            return kind == other.kind && entity == other.entity;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(kind) + System.identityHashCode(entity);
+        }
+    }
+}
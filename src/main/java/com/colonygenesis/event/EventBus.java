@@ -1,66 +1,719 @@
 package com.colonygenesis.event;
 
-import java.util.*;
+import com.colonygenesis.core.TurnPhase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class EventBus {
     private static final Logger LOGGER = Logger.getLogger(EventBus.class.getName());
-    private static EventBus instance;
+    private static final GameEvent.EventType[] EVENT_TYPES = GameEvent.EventType.values();
+    private static final EventListener[] NO_LISTENERS = new EventListener[0];
+    private static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    // Listener arrays indexed by EventType.ordinal(). The table is never mutated in
+    // place: register and unregister build a new one and swap it in, so publish can
+    // walk it without locking or allocating.
+    private volatile EventListener[][] dispatchTable;
+    private final Object registrationLock = new Object();
+
+    // The same table without UI-bound listeners, walked instead while the
+    // publishing thread is muted
+    private volatile EventListener[][] unmutedTable;
+
+    // Queues for asynchronous listeners, keyed by the listener they deliver to
+    private final Map<EventListener, AsyncListenerQueue> asyncQueues = new IdentityHashMap<>();
+    private volatile int asyncQueueCapacity = DEFAULT_QUEUE_CAPACITY;
+    private volatile OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    // Event identity: a per-bus id plus a monotonic sequence, and the game clock
+    // as last reported by the turn manager
+    private final long busId = ThreadLocalRandom.current().nextLong();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile int clockTurn;
+    private volatile TurnPhase clockPhase;
+    private volatile boolean recordNanoTime;
+
+    // Buffer for the batch scope currently open, if any. Only the thread that
+    // opened it buffers; events from other threads are dispatched immediately.
+    private volatile EventBatch activeBatch;
 
-    // Using ConcurrentHashMap for thread safety
-    private final Map<GameEvent.EventType, Set<EventListener>> listeners = new ConcurrentHashMap<>();
+    // Mute scope currently open, if any. Like a batch, it only applies to the
+    // thread that opened it.
+    private volatile MuteScope activeMute;
+
+    // Latest event per topic for sticky event types, indexed by EventType.ordinal();
+    // null for types that are not sticky
+    private final Map<Object, GameEvent>[] stickyValues;
+
+    // Null unless metrics are enabled, so the uninstrumented path costs one check
+    private volatile EventBusMetrics metrics;
+
+    /**
+     * Creates an event bus. Each game owns one, so listeners registered on
+     * one game never see another game's events.
+     */
+    public EventBus() {
+        EventListener[][] table = new EventListener[EVENT_TYPES.length][];
+        Arrays.fill(table, NO_LISTENERS);
+        dispatchTable = table;
+        unmutedTable = table.clone();
+
+        stickyValues = newStickyTable();
+    }
 
-    private EventBus() {
-        // Private constructor for singleton
-        // Initialize event types
-        for (GameEvent.EventType type : GameEvent.EventType.values()) {
-            listeners.put(type, new HashSet<>());
+    @SuppressWarnings("unchecked")
+    private static Map<Object, GameEvent>[] newStickyTable() {
+        Map<Object, GameEvent>[] values = (Map<Object, GameEvent>[]) new Map<?, ?>[EVENT_TYPES.length];
+        for (GameEvent.EventType type : EVENT_TYPES) {
+            if (type.isSticky()) {
+                values[type.ordinal()] = new ConcurrentHashMap<>();
+            }
         }
+        return values;
     }
 
-    public static synchronized EventBus getInstance() {
-        if (instance == null) {
-            instance = new EventBus();
+    /**
+     * Registers a listener for event types. The latest event of each sticky
+     * type the listener is registered for is replayed to it before this
+     * method returns, oldest first, as one batch.
+     *
+     * @param listener The listener to register
+     * @param eventTypes The event types to receive, or none for all
+     * @return A handle that unregisters the listener when closed
+     */
+    public Subscription register(EventListener listener, GameEvent.EventType... eventTypes) {
+        // Register for all events if none specified
+        GameEvent.EventType[] types = eventTypes.length == 0 ? EVENT_TYPES : eventTypes;
+
+        List<GameEvent.EventType> added = new ArrayList<>();
+        EventListener target;
+
+        synchronized (registrationLock) {
+            EventListener[][] table = dispatchTable.clone();
+            EventListener[][] unmuted = unmutedTable.clone();
+            boolean uiBound = listener.isUiBound();
+            target = dispatchTarget(listener);
+
+            for (GameEvent.EventType type : types) {
+                // The listener's filter is applied once here instead of on every publish
+                if (!listener.isInterestedIn(type)) {
+                    continue;
+                }
+
+                EventListener[] current = table[type.ordinal()];
+                if (indexOf(current, target) >= 0) {
+                    continue;
+                }
+
+                table[type.ordinal()] = append(current, target);
+                if (!uiBound) {
+                    unmuted[type.ordinal()] = append(unmuted[type.ordinal()], target);
+                }
+                added.add(type);
+            }
+
+            dispatchTable = table;
+            unmutedTable = unmuted;
         }
-        return instance;
+
+        replaySticky(target, added);
+        return new Subscription(this, listener);
+    }
+
+    /**
+     * Registers a listener without keeping it reachable. The bus holds it
+     * through a weak reference, so the listener can be garbage collected
+     * while registered; the registration is then pruned the next time an
+     * event is dispatched to it. The caller must keep a strong reference for
+     * as long as it wants events, and must cancel it through the returned
+     * handle rather than {@link #unregister}.
+     *
+     * @param listener The listener to register
+     * @param eventTypes The event types to receive, or none for all
+     * @return A handle that unregisters the listener when closed
+     */
+    public Subscription registerWeak(EventListener listener, GameEvent.EventType... eventTypes) {
+        return register(new WeakListener(listener, this), eventTypes);
     }
 
-    public void register(EventListener listener, GameEvent.EventType... eventTypes) {
+    /**
+     * Subscribes a handler to events of a specific class. The handler is
+     * resolved to the matching event types once, here, so dispatch needs no
+     * type checks or casts in the handler.
+     *
+     * @param eventClass The class of events to receive
+     * @param handler The handler to call
+     * @param eventTypes The event types to receive, or none for every type of that class
+     * @param <E> The event class
+     * @return A handle that unregisters the handler when closed
+     */
+    public <E extends GameEvent> Subscription subscribe(Class<E> eventClass, Consumer<? super E> handler,
+                                                         GameEvent.EventType... eventTypes) {
+        return subscribe(eventClass, handler, false, eventTypes);
+    }
+
+    /**
+     * Subscribes a handler that only updates the user interface. It is
+     * dispatched like one added with {@link #subscribe}, except that muting
+     * the bus silences it.
+     *
+     * @param eventClass The class of events to receive
+     * @param handler The handler to call
+     * @param eventTypes The event types to receive, or none for every type of that class
+     * @param <E> The event class
+     * @return A handle that unregisters the handler when closed
+     * @see EventListener#isUiBound
+     */
+    public <E extends GameEvent> Subscription subscribeUi(Class<E> eventClass, Consumer<? super E> handler,
+                                                           GameEvent.EventType... eventTypes) {
+        return subscribe(eventClass, handler, true, eventTypes);
+    }
+
+    private <E extends GameEvent> Subscription subscribe(Class<E> eventClass, Consumer<? super E> handler,
+                                                         boolean uiBound, GameEvent.EventType... eventTypes) {
+        if (eventClass == null || handler == null) {
+            throw new IllegalArgumentException("Event class and handler cannot be null");
+        }
+
+        List<GameEvent.EventType> types = new ArrayList<>();
         if (eventTypes.length == 0) {
-            // Register for all events if none specified
-            for (GameEvent.EventType type : GameEvent.EventType.values()) {
-                listeners.get(type).add(listener);
+            for (GameEvent.EventType type : EVENT_TYPES) {
+                if (eventClass.isAssignableFrom(type.getEventClass())) {
+                    types.add(type);
+                }
             }
         } else {
-            // Register for specific events
             for (GameEvent.EventType type : eventTypes) {
-                listeners.get(type).add(listener);
+                if (!eventClass.isAssignableFrom(type.getEventClass())) {
+                    throw new IllegalArgumentException(type + " events are " +
+                            type.getEventClass().getSimpleName() + ", not " + eventClass.getSimpleName());
+                }
+                types.add(type);
             }
         }
+
+        if (types.isEmpty()) {
+            throw new IllegalArgumentException("No event types carry " + eventClass.getSimpleName());
+        }
+
+        return register(new TypedHandler<>(eventClass, handler, uiBound), types.toArray(new GameEvent.EventType[0]));
     }
 
     public void unregister(EventListener listener) {
-        for (Set<EventListener> eventListeners : listeners.values()) {
-            eventListeners.remove(listener);
+        synchronized (registrationLock) {
+            AsyncListenerQueue queue = asyncQueues.remove(listener);
+            EventListener target = queue != null ? queue : listener;
+
+            dispatchTable = without(dispatchTable, target);
+            unmutedTable = without(unmutedTable, target);
+
+            EventBusMetrics current = metrics;
+            if (current != null) {
+                current.forget(target);
+            }
+
+            if (queue != null) {
+                queue.close();
+            }
+        }
+    }
+
+    private static EventListener[] append(EventListener[] listeners, EventListener listener) {
+        EventListener[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        return updated;
+    }
+
+    /**
+     * Copies a dispatch table without a listener, or returns it unchanged if
+     * the listener is not in it.
+     */
+    private static EventListener[][] without(EventListener[][] table, EventListener target) {
+        EventListener[][] result = table;
+        for (int i = 0; i < table.length; i++) {
+            EventListener[] current = table[i];
+            int index = indexOf(current, target);
+            if (index < 0) {
+                continue;
+            }
+
+            if (result == table) {
+                result = table.clone();
+            }
+            if (current.length == 1) {
+                result[i] = NO_LISTENERS;
+            } else {
+                EventListener[] updated = new EventListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, index);
+                System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+                result[i] = updated;
+            }
+        }
+        return result;
+    }
+
+    private void retain(GameEvent event) {
+        Object key = event.getTopicKey();
+        stickyValues[event.getType().ordinal()].put(key != null ? key : event.getType(), event);
+    }
+
+    private void replaySticky(EventListener target, List<GameEvent.EventType> types) {
+        List<GameEvent> replay = new ArrayList<>();
+        for (GameEvent.EventType type : types) {
+            if (type.isSticky()) {
+                replay.addAll(stickyValues[type.ordinal()].values());
+            }
+        }
+        if (replay.isEmpty()) {
+            return;
+        }
+
+        replay.sort(Comparator.comparingLong(GameEvent::getSequence));
+        try {
+            target.onBatch(replay);
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error replaying sticky events to listener " + target, e);
+        }
+    }
+
+    /**
+     * Gets the latest event of a sticky type for every topic.
+     *
+     * @param type The event type
+     * @return The retained events, oldest first; empty if the type is not sticky
+     */
+    public List<GameEvent> getStickyEvents(GameEvent.EventType type) {
+        if (!type.isSticky()) {
+            return Collections.emptyList();
+        }
+        List<GameEvent> events = new ArrayList<>(stickyValues[type.ordinal()].values());
+        events.sort(Comparator.comparingLong(GameEvent::getSequence));
+        return events;
+    }
+
+    /**
+     * Forgets every retained sticky event, e.g. when a new game replaces the
+     * state they described.
+     */
+    public void clearStickyEvents() {
+        for (Map<Object, GameEvent> values : stickyValues) {
+            if (values != null) {
+                values.clear();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of distinct listeners currently registered.
+     *
+     * @return The listener count
+     */
+    public int getListenerCount() {
+        Map<EventListener, Boolean> seen = new IdentityHashMap<>();
+        for (EventListener[] listeners : dispatchTable) {
+            for (EventListener listener : listeners) {
+                seen.put(listener, Boolean.TRUE);
+            }
+        }
+        return seen.size();
+    }
+
+    /**
+     * Gets what the dispatch table should hold for a listener: the listener
+     * itself, or the queue in front of it if it is asynchronous.
+     */
+    private EventListener dispatchTarget(EventListener listener) {
+        if (listener.getDispatchMode() != EventListener.DispatchMode.ASYNCHRONOUS) {
+            return listener;
+        }
+        return asyncQueues.computeIfAbsent(listener,
+                key -> new AsyncListenerQueue(key, asyncQueueCapacity, overflowPolicy));
+    }
+
+    /**
+     * Sets the queue size for asynchronous listeners registered after this call.
+     *
+     * @param capacity The maximum number of queued events per listener
+     */
+    public void setAsyncQueueCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.asyncQueueCapacity = capacity;
+    }
+
+    /**
+     * Sets what full queues do for asynchronous listeners registered after this call.
+     *
+     * @param policy The overflow policy
+     */
+    public void setOverflowPolicy(OverflowPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Overflow policy cannot be null");
+        }
+        this.overflowPolicy = policy;
+    }
+
+    /**
+     * Waits until every asynchronous listener has processed its queued events.
+     *
+     * @param timeout The maximum time to wait
+     * @param unit The unit of the timeout
+     * @return true if all queues drained in time, false otherwise
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitAsyncIdle(long timeout, TimeUnit unit) throws InterruptedException {
+        List<AsyncListenerQueue> queues;
+        synchronized (registrationLock) {
+            queues = new ArrayList<>(asyncQueues.values());
+        }
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (AsyncListenerQueue queue : queues) {
+            if (!queue.awaitIdle(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Starts collecting publish counts and listener dispatch times.
+     * Has no effect if metrics are already enabled.
+     *
+     * @return The metrics for this bus
+     */
+    public EventBusMetrics enableMetrics() {
+        synchronized (registrationLock) {
+            if (metrics == null) {
+                metrics = new EventBusMetrics(busId);
+            }
+            return metrics;
+        }
+    }
+
+    /**
+     * Stops collecting metrics and removes them from JMX if they were registered there.
+     */
+    public void disableMetrics() {
+        EventBusMetrics previous;
+        synchronized (registrationLock) {
+            previous = metrics;
+            metrics = null;
+        }
+        if (previous != null) {
+            previous.unregisterMBean();
+        }
+    }
+
+    /**
+     * Gets the metrics for this bus.
+     *
+     * @return The metrics, or null if they are not enabled
+     */
+    public EventBusMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the game turn and phase stamped onto events published from now on.
+     *
+     * @param turn The current turn number
+     * @param phase The current turn phase
+     */
+    public void setClock(int turn, TurnPhase phase) {
+        this.clockTurn = turn;
+        this.clockPhase = phase;
+    }
+
+    /**
+     * Sets whether published events are stamped with System.nanoTime().
+     *
+     * @param record true to record publish times, false otherwise
+     */
+    public void setRecordNanoTime(boolean record) {
+        this.recordNanoTime = record;
+    }
+
+    /**
+     * Opens a batch scope. Until the outermost scope is closed, events
+     * published on this thread are buffered and coalesced per entity instead
+     * of dispatched, then delivered to each listener as one ordered batch
+     * through {@link EventListener#onBatch}. Scopes opened on the same thread
+     * nest; a scope opened while another thread holds one does not buffer.
+     *
+     * @return The scope, to close when the batched work is done
+     */
+    public BatchScope openBatch() {
+        Thread current = Thread.currentThread();
+        synchronized (registrationLock) {
+            EventBatch batch = activeBatch;
+            if (batch == null) {
+                batch = new EventBatch(current);
+                activeBatch = batch;
+            } else if (batch.getOwner() != current) {
+                return new BatchScope(null);
+            }
+            batch.enter();
+            return new BatchScope(batch);
+        }
+    }
+
+    /**
+     * Mutes the bus for the current thread. Until the scope is closed, events
+     * published on this thread are stamped and sticky values are kept, but
+     * UI-bound listeners do not receive them; the scope counts them by type
+     * instead. Other listeners, such as a journal or a statistics counter,
+     * still receive every event as it is published, outside of any batch.
+     * Use it for bulk work whose outcome is announced once afterwards. Muting while
+     * this thread already holds a mute returns a nested scope sharing the
+     * outer counts; muting while another thread holds one has no effect.
+     *
+     * @return The scope, to close when the muted work is done
+     */
+    public MuteScope mute() {
+        Thread current = Thread.currentThread();
+        synchronized (registrationLock) {
+            MuteScope mute = activeMute;
+            if (mute == null) {
+                mute = new MuteScope(current, new int[EVENT_TYPES.length], true);
+                activeMute = mute;
+                return mute;
+            }
+            if (mute.owner == current) {
+                return new MuteScope(current, mute.counts, false);
+            }
+            return new MuteScope(null, new int[EVENT_TYPES.length], false);
+        }
+    }
+
+    private void closeBatch(EventBatch batch) {
+        synchronized (registrationLock) {
+            if (!batch.exit()) {
+                return;
+            }
+            activeBatch = null;
+        }
+        flush(batch);
+    }
+
+    /**
+     * Stamps the buffered events in delivery order and hands each listener
+     * the events it is registered for, in one call.
+     */
+    private void flush(EventBatch batch) {
+        List<GameEvent> events = batch.drain();
+        if (events.isEmpty()) {
+            return;
+        }
+
+        EventListener[][] table = dispatchTable;
+        Map<EventListener, List<GameEvent>> batches = new IdentityHashMap<>();
+        List<EventListener> listeners = new ArrayList<>();
+
+        for (GameEvent event : events) {
+            stamp(event);
+            if (event.getType().isSticky()) {
+                retain(event);
+            }
+            for (EventListener listener : table[event.getType().ordinal()]) {
+                List<GameEvent> received = batches.get(listener);
+                if (received == null) {
+                    received = new ArrayList<>();
+                    batches.put(listener, received);
+                    listeners.add(listener);
+                }
+                received.add(event);
+            }
+        }
+
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Flushing batch of " + events.size() + " events (" + batch.getCoalescedCount() +
+                    " coalesced) to " + listeners.size() + " listeners");
+        }
+
+        EventBusMetrics metrics = this.metrics;
+        if (metrics != null) {
+            for (GameEvent event : events) {
+                metrics.recordPublish(event.getType());
+            }
+        }
+
+        for (EventListener listener : listeners) {
+            List<GameEvent> received = batches.get(listener);
+            long start = metrics != null ? System.nanoTime() : 0L;
+            try {
+                listener.onBatch(received);
+            } catch (Exception e) {
+                LOGGER.log(Level.SEVERE, "Error dispatching event batch to listener " + listener, e);
+            }
+            if (metrics != null) {
+                metrics.recordDispatch(listener, received.get(0).getType(), System.nanoTime() - start);
+            }
         }
     }
 
     public void publish(GameEvent event) {
-        LOGGER.log(Level.FINE, "Publishing event: " + event.getType() + " from " + event.getSource());
-
-        Set<EventListener> eventListeners = listeners.get(event.getType());
-        if (eventListeners != null) {
-            for (EventListener listener : eventListeners) {
-                try {
-                    if (listener.isInterestedIn(event.getType())) {
-                        listener.onEvent(event);
+        MuteScope mute = activeMute;
+        if (mute != null && mute.owner == Thread.currentThread()) {
+            stamp(event);
+            if (event.getType().isSticky()) {
+                retain(event);
+            }
+            mute.counts[event.getType().ordinal()]++;
+            dispatch(unmutedTable[event.getType().ordinal()], event);
+            return;
+        }
+
+        EventBatch batch = activeBatch;
+        if (batch != null && batch.getOwner() == Thread.currentThread()) {
+            batch.add(event);
+            return;
+        }
+
+        stamp(event);
+        if (event.getType().isSticky()) {
+            retain(event);
+        }
+
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Publishing event: " + event.getType() + " from " + event.getSource());
+        }
+
+        dispatch(dispatchTable[event.getType().ordinal()], event);
+    }
+
+    private void dispatch(EventListener[] listeners, GameEvent event) {
+        EventBusMetrics metrics = this.metrics;
+        if (metrics != null) {
+            publishMeasured(listeners, event, metrics);
+            return;
+        }
+
+        for (EventListener listener : listeners) {
+            try {
+                listener.onEvent(event);
+            } catch (Exception e) {
+                LOGGER.log(Level.SEVERE, "Error dispatching event " + event.getType() + " to listener " + listener, e);
+            }
+        }
+    }
+
+    private void publishMeasured(EventListener[] listeners, GameEvent event, EventBusMetrics metrics) {
+        metrics.recordPublish(event.getType());
+
+        for (EventListener listener : listeners) {
+            long start = System.nanoTime();
+            try {
+                listener.onEvent(event);
+            } catch (Exception e) {
+                LOGGER.log(Level.SEVERE, "Error dispatching event " + event.getType() + " to listener " + listener, e);
+            }
+            metrics.recordDispatch(listener, event.getType(), System.nanoTime() - start);
+        }
+    }
+
+    private void stamp(GameEvent event) {
+        // Events that were already published keep their original stamp
+        if (event.getSequence() == 0) {
+            event.stamp(busId, sequence.incrementAndGet(), clockTurn, clockPhase,
+                    recordNanoTime ? System.nanoTime() : 0L);
+        }
+    }
+
+    private static int indexOf(EventListener[] listeners, EventListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * An open batch scope, closed with try-with-resources.
+     */
+    public final class BatchScope implements AutoCloseable {
+        private EventBatch batch;
+
+        private BatchScope(EventBatch batch) {
+            this.batch = batch;
+        }
+
+        /**
+         * Closes the scope, flushing the buffered events if it is the outermost one.
+         */
+        @Override
+        public void close() {
+            if (batch != null) {
+                EventBatch closing = batch;
+                batch = null;
+                closeBatch(closing);
+            }
+        }
+    }
+
+    /**
+     * An open mute scope, closed with try-with-resources.
+     */
+    public final class MuteScope implements AutoCloseable {
+        private final Thread owner;
+        private final int[] counts;
+        private boolean releases;
+
+        private MuteScope(Thread owner, int[] counts, boolean releases) {
+            this.owner = owner;
+            this.counts = counts;
+            this.releases = releases;
+        }
+
+        /**
+         * Gets the number of events muted so far.
+         */
+        public int getMutedCount() {
+            int total = 0;
+            for (int count : counts) {
+                total += count;
+            }
+            return total;
+        }
+
+        /**
+         * Gets the number of events of one type muted so far.
+         *
+         * @param type The event type
+         * @return The number of muted events of that type
+         */
+        public int getMutedCount(GameEvent.EventType type) {
+            return counts[type.ordinal()];
+        }
+
+        /**
+         * Closes the scope, unmuting the bus if it is the outermost one.
+         */
+        @Override
+        public void close() {
+            if (releases) {
+                releases = false;
+                synchronized (registrationLock) {
+                    if (activeMute == this) {
+                        activeMute = null;
                     }
-                } catch (Exception e) {
-                    LOGGER.log(Level.SEVERE, "Error dispatching event " + event.getType() + " to listener " + listener, e);
                 }
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,321 @@
+package com.colonygenesis.event;
+
+import com.colonygenesis.util.LoggerUtils;
+import com.colonygenesis.util.Result;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Publish and dispatch statistics for one {@link EventBus}.
+ *
+ * <p>Enabled with {@link EventBus#enableMetrics()}. The bus counts every
+ * published event by type and times every listener call into a per-listener
+ * {@link LatencyHistogram}. A listener call slower than the configured
+ * threshold is logged, at most once per interval for each listener. When
+ * metrics are disabled the bus skips all of this after one null check.</p>
+ */
+public class EventBusMetrics implements EventBusMetricsMXBean {
+    private static final Logger LOGGER = LoggerUtils.getLogger(EventBusMetrics.class);
+
+    private static final long DEFAULT_SLOW_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long DEFAULT_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private static final GameEvent.EventType[] EVENT_TYPES = GameEvent.EventType.values();
+
+    private final long busId;
+    private final LongAdder[] publishCounts = new LongAdder[EVENT_TYPES.length];
+    private final Map<EventListener, ListenerMetrics> listeners = new ConcurrentHashMap<>();
+
+    private volatile long slowThresholdNanos = DEFAULT_SLOW_THRESHOLD_NANOS;
+    private volatile long logIntervalNanos = DEFAULT_LOG_INTERVAL_NANOS;
+    private ObjectName objectName;
+
+    EventBusMetrics(long busId) {
+        this.busId = busId;
+        for (int i = 0; i < publishCounts.length; i++) {
+            publishCounts[i] = new LongAdder();
+        }
+    }
+
+    void recordPublish(GameEvent.EventType type) {
+        publishCounts[type.ordinal()].increment();
+    }
+
+    void recordDispatch(EventListener listener, GameEvent.EventType type, long nanos) {
+        ListenerMetrics metrics = listeners.computeIfAbsent(listener, ListenerMetrics::new);
+        metrics.histogram.record(nanos);
+
+        if (nanos >= slowThresholdNanos) {
+            metrics.slowCount.increment();
+            long now = System.nanoTime();
+            long last = metrics.lastSlowLog.get();
+            if ((last == 0L || now - last >= logIntervalNanos) && metrics.lastSlowLog.compareAndSet(last, now)) {
+                LOGGER.warning("Slow event listener " + metrics.name + " took " +
+                        TimeUnit.NANOSECONDS.toMicros(nanos) + "us for " + type + " (" +
+                        metrics.slowCount.sum() + " slow dispatches so far)");
+            }
+        }
+    }
+
+    void forget(EventListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Sets the dispatch time above which a listener call is logged as slow.
+     *
+     * @param threshold The threshold
+     * @param unit The unit of the threshold
+     */
+    public void setSlowListenerThreshold(long threshold, TimeUnit unit) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Slow listener threshold must be positive");
+        }
+        this.slowThresholdNanos = unit.toNanos(threshold);
+    }
+
+    /**
+     * Sets how often the same slow listener may be logged.
+     *
+     * @param interval The minimum time between log lines for one listener
+     * @param unit The unit of the interval
+     */
+    public void setSlowListenerLogInterval(long interval, TimeUnit unit) {
+        if (interval < 0) {
+            throw new IllegalArgumentException("Log interval cannot be negative");
+        }
+        this.logIntervalNanos = unit.toNanos(interval);
+    }
+
+    /**
+     * Takes a point-in-time copy of the metrics.
+     *
+     * @return The snapshot
+     */
+    public Snapshot snapshot() {
+        Map<GameEvent.EventType, Long> counts = new EnumMap<>(GameEvent.EventType.class);
+        for (GameEvent.EventType type : EVENT_TYPES) {
+            counts.put(type, publishCounts[type.ordinal()].sum());
+        }
+
+        List<ListenerStats> stats = new ArrayList<>();
+        for (ListenerMetrics metrics : listeners.values()) {
+            stats.add(metrics.toStats());
+        }
+        // Most expensive listeners first
+        stats.sort((a, b) -> Long.compare(b.getTotalNanos(), a.getTotalNanos()));
+
+        return new Snapshot(counts, stats);
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server.
+     *
+     * @return A Result containing the object name, or a failure if registration failed
+     */
+    public synchronized Result<ObjectName> registerMBean() {
+        if (objectName != null) {
+            return Result.success(objectName);
+        }
+
+        try {
+            ObjectName name = new ObjectName("com.colonygenesis:type=EventBus,id=" + Long.toHexString(busId));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            objectName = name;
+            LOGGER.info("Event bus metrics registered as " + name);
+            return Result.success(name);
+        } catch (JMException e) {
+            return Result.failure("Cannot register event bus metrics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Removes these metrics from the platform MBean server if registered.
+     */
+    public synchronized void unregisterMBean() {
+        if (objectName == null) {
+            return;
+        }
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName);
+        } catch (JMException e) {
+            LOGGER.warning("Cannot unregister event bus metrics: " + e.getMessage());
+        }
+        objectName = null;
+    }
+
+    @Override
+    public long getTotalPublished() {
+        long total = 0;
+        for (LongAdder count : publishCounts) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public Map<String, Long> getPublishCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (GameEvent.EventType type : EVENT_TYPES) {
+            counts.put(type.name(), publishCounts[type.ordinal()].sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public String[] getListenerSummaries() {
+        List<ListenerStats> stats = snapshot().getListenerStats();
+        String[] summaries = new String[stats.size()];
+        for (int i = 0; i < summaries.length; i++) {
+            summaries[i] = stats.get(i).toString();
+        }
+        return summaries;
+    }
+
+    @Override
+    public long getSlowListenerThresholdMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(slowThresholdNanos);
+    }
+
+    @Override
+    public void setSlowListenerThresholdMicros(long micros) {
+        setSlowListenerThreshold(micros, TimeUnit.MICROSECONDS);
+    }
+
+    @Override
+    public void reset() {
+        for (LongAdder count : publishCounts) {
+            count.reset();
+        }
+        listeners.clear();
+    }
+
+    /**
+     * Names a listener for reports, looking through the wrappers the bus adds.
+     */
+    private static String describe(EventListener listener) {
+        if (listener instanceof AsyncListenerQueue queue) {
+            return describe(queue.getDelegate()) + " (async)";
+        }
+        return String.valueOf(listener);
+    }
+
+    private static final class ListenerMetrics {
+        private final String name;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder slowCount = new LongAdder();
+        private final AtomicLong lastSlowLog = new AtomicLong();
+
+        ListenerMetrics(EventListener listener) {
+            this.name = describe(listener);
+        }
+
+        ListenerStats toStats() {
+            return new ListenerStats(name, histogram.getCount(), histogram.getTotal(),
+                    histogram.getPercentile(0.5), histogram.getPercentile(0.99),
+                    histogram.getMax(), slowCount.sum());
+        }
+    }
+
+    /**
+     * Point-in-time copy of an event bus's metrics.
+     */
+    public static class Snapshot {
+        private final Map<GameEvent.EventType, Long> publishCounts;
+        private final List<ListenerStats> listenerStats;
+
+        Snapshot(Map<GameEvent.EventType, Long> publishCounts, List<ListenerStats> listenerStats) {
+            this.publishCounts = Collections.unmodifiableMap(publishCounts);
+            this.listenerStats = Collections.unmodifiableList(listenerStats);
+        }
+
+        public Map<GameEvent.EventType, Long> getPublishCounts() {
+            return publishCounts;
+        }
+
+        /**
+         * Gets per-listener statistics, most total dispatch time first.
+         */
+        public List<ListenerStats> getListenerStats() {
+            return listenerStats;
+        }
+    }
+
+    /**
+     * Dispatch statistics for one listener. Times are in nanoseconds.
+     */
+    public static class ListenerStats {
+        private final String listener;
+        private final long dispatchCount;
+        private final long totalNanos;
+        private final long p50Nanos;
+        private final long p99Nanos;
+        private final long maxNanos;
+        private final long slowCount;
+
+        ListenerStats(String listener, long dispatchCount, long totalNanos,
+                      long p50Nanos, long p99Nanos, long maxNanos, long slowCount) {
+            this.listener = listener;
+            this.dispatchCount = dispatchCount;
+            this.totalNanos = totalNanos;
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+            this.maxNanos = maxNanos;
+            this.slowCount = slowCount;
+        }
+
+        public String getListener() {
+            return listener;
+        }
+
+        public long getDispatchCount() {
+            return dispatchCount;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMeanNanos() {
+            return dispatchCount > 0 ? totalNanos / dispatchCount : 0L;
+        }
+
+        public long getP50Nanos() {
+            return p50Nanos;
+        }
+
+        public long getP99Nanos() {
+            return p99Nanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public long getSlowCount() {
+            return slowCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d calls, mean %dns, p50 %dns, p99 %dns, max %dns, %d slow",
+                    listener, dispatchCount, getMeanNanos(), p50Nanos, p99Nanos, maxNanos, slowCount);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.colonygenesis.event;
+
+import java.util.Map;
+
+/**
+ * JMX view of an {@link EventBusMetrics}.
+ */
+public interface EventBusMetricsMXBean {
+    /**
+     * Gets the number of events published since the last reset.
+     */
+    long getTotalPublished();
+
+    /**
+     * Gets the number of events published per event type.
+     */
+    Map<String, Long> getPublishCounts();
+
+    /**
+     * Gets one line per listener: dispatch count, mean, p50, p99 and max
+     * dispatch time, and the number of slow dispatches.
+     */
+    String[] getListenerSummaries();
+
+    /**
+     * Gets the dispatch time above which a listener is reported as slow.
+     */
+    long getSlowListenerThresholdMicros();
+
+    /**
+     * Sets the dispatch time above which a listener is reported as slow.
+     */
+    void setSlowListenerThresholdMicros(long micros);
+
+    /**
+     * Clears all counters and histograms.
+     */
+    void reset();
+}
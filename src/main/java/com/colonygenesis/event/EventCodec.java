@@ -0,0 +1,298 @@
+package com.colonygenesis.event;
+
+import com.colonygenesis.building.Building;
+import com.colonygenesis.building.BuildingFactory;
+import com.colonygenesis.core.Game;
+import com.colonygenesis.core.TurnPhase;
+import com.colonygenesis.event.events.BuildingBatchEvent;
+import com.colonygenesis.event.events.BuildingEvent;
+import com.colonygenesis.event.events.BuildingStateChangedEvent;
+import com.colonygenesis.event.events.FastForwardEvent;
+import com.colonygenesis.event.events.GameStateEvent;
+import com.colonygenesis.event.events.ResourceEvent;
+import com.colonygenesis.event.events.ResourceShortageEvent;
+import com.colonygenesis.event.events.TileEvent;
+import com.colonygenesis.event.events.TurnEvent;
+import com.colonygenesis.map.Tile;
+import com.colonygenesis.resource.ResourceType;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary encoding of game events for the {@link EventJournal}.
+ *
+ * <p>Every record starts with a fixed header (kind, event type, bus id,
+ * sequence, turn, phase, nano time, creation time) followed by a payload
+ * specific to the event class. Entities are written by position: tiles as
+ * coordinates, buildings as coordinates plus name. Enum values are stored by
+ * ordinal, so a journal is only readable by the build that wrote it.</p>
+ */
+final class EventCodec {
+    private static final byte KIND_GENERIC = 0;
+    private static final byte KIND_RESOURCE = 1;
+    private static final byte KIND_BUILDING = 2;
+    private static final byte KIND_BUILDING_BATCH = 3;
+    private static final byte KIND_TURN = 4;
+    private static final byte KIND_TILE = 5;
+    private static final byte KIND_GAME_STATE = 6;
+    private static final byte KIND_SHORTAGE = 7;
+    private static final byte KIND_FAST_FORWARD = 8;
+
+    private static final byte NONE = -1;
+
+    private static final GameEvent.EventType[] EVENT_TYPES = GameEvent.EventType.values();
+    private static final TurnPhase[] PHASES = TurnPhase.values();
+    private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+    private static final TileEvent.TileUpdateType[] TILE_UPDATES = TileEvent.TileUpdateType.values();
+    private static final GameStateEvent.GameStateType[] GAME_STATES = GameStateEvent.GameStateType.values();
+
+    private EventCodec() {
+        // Static helpers only
+    }
+
+    /**
+     * Encodes an event into a buffer.
+     *
+     * @return true if the event fit, false if the buffer was too small
+     */
+    static boolean encode(GameEvent event, ByteBuffer out) {
+        try {
+            writeRecord(event, out);
+            return true;
+        } catch (BufferOverflowException e) {
+            return false;
+        }
+    }
+
+    private static void writeRecord(GameEvent event, ByteBuffer out) {
+        byte kind = kindOf(event);
+        out.put(kind);
+        out.put((byte) event.getType().ordinal());
+        out.putLong(event.getBusId());
+        out.putLong(event.getSequence());
+        out.putInt(event.getPublishTurn());
+        out.put(ordinal(event.getPublishPhase()));
+        out.putLong(event.getNanoTime());
+        out.putLong(event.getCreatedMillis());
+
+        switch (kind) {
+            case KIND_RESOURCE: {
+                ResourceEvent resource = (ResourceEvent) event;
+                out.put(ordinal(resource.getResourceType()));
+                out.putInt(resource.getAmount());
+                out.putInt(resource.getPreviousAmount());
+                break;
+            }
+            case KIND_BUILDING: {
+                BuildingEvent building = (BuildingEvent) event;
+                writeTile(building.getTile(), out);
+                writeName(building.getBuilding() != null ? building.getBuilding().getName() : "", out);
+                break;
+            }
+            case KIND_BUILDING_BATCH: {
+                BuildingBatchEvent batch = (BuildingBatchEvent) event;
+                List<Building> buildings = batch.getBuildings();
+                List<Tile> tiles = batch.getTiles();
+                out.putInt(buildings.size());
+                for (int i = 0; i < buildings.size(); i++) {
+                    writeTile(tiles.get(i), out);
+                    writeName(buildings.get(i).getName(), out);
+                }
+                break;
+            }
+            case KIND_TURN: {
+                TurnEvent turn = (TurnEvent) event;
+                out.putInt(turn.getTurnNumber());
+                out.put(ordinal(turn.getPhase()));
+                out.putInt(turn.getPreviousTurn());
+                out.put(ordinal(turn.getPreviousPhase()));
+                break;
+            }
+            case KIND_TILE: {
+                TileEvent tile = (TileEvent) event;
+                writeTile(tile.getTile(), out);
+                out.put(ordinal(tile.getUpdateType()));
+                break;
+            }
+            case KIND_GAME_STATE: {
+                GameStateEvent state = (GameStateEvent) event;
+                out.put(ordinal(state.getStateType()));
+                out.put((byte) (state.getData() instanceof Game ? 1 : 0));
+                break;
+            }
+            case KIND_SHORTAGE: {
+                ResourceShortageEvent shortage = (ResourceShortageEvent) event;
+                out.put(ordinal(shortage.getResourceType()));
+                out.putInt(shortage.getAmount());
+                break;
+            }
+            case KIND_FAST_FORWARD: {
+                FastForwardEvent fastForward = (FastForwardEvent) event;
+                out.putInt(fastForward.getFromTurn());
+                out.putInt(fastForward.getToTurn());
+                out.putInt(fastForward.getMutedEvents());
+                out.putInt(fastForward.getShortages());
+                out.putLong(fastForward.getElapsedNanos());
+                break;
+            }
+            default:
+                // Unknown event classes are recorded by type only
+                break;
+        }
+    }
+
+    /**
+     * Decodes one record, resolving tiles and buildings against a game.
+     *
+     * @param in The record bytes, positioned at the start of the record
+     * @param source The source to give the decoded event
+     * @param game The game used to resolve tiles and buildings, or null
+     * @return The decoded event, or null if it was recorded by type only
+     */
+    static GameEvent decode(ByteBuffer in, Object source, Game game) {
+        byte kind = in.get();
+        GameEvent.EventType type = EVENT_TYPES[in.get()];
+        long busId = in.getLong();
+        long sequence = in.getLong();
+        int turn = in.getInt();
+        TurnPhase phase = fromOrdinal(PHASES, in.get());
+        long nanoTime = in.getLong();
+        long createdMillis = in.getLong();
+
+        GameEvent event;
+        switch (kind) {
+            case KIND_RESOURCE: {
+                ResourceType resource = fromOrdinal(RESOURCE_TYPES, in.get());
+                int amount = in.getInt();
+                int previous = in.getInt();
+                event = new ResourceEvent(source, resource, amount, previous);
+                break;
+            }
+            case KIND_BUILDING: {
+                Tile tile = readTile(in, game);
+                Building building = resolveBuilding(tile, readName(in));
+                if (type.getEventClass() == BuildingStateChangedEvent.class) {
+                    event = new BuildingStateChangedEvent(source, building, tile,
+                            type == GameEvent.EventType.BUILDING_ACTIVATED);
+                } else {
+                    event = new BuildingEvent(source, type, building, tile);
+                }
+                break;
+            }
+            case KIND_BUILDING_BATCH: {
+                int count = in.getInt();
+                List<Building> buildings = new ArrayList<>(count);
+                List<Tile> tiles = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    Tile tile = readTile(in, game);
+                    Building building = resolveBuilding(tile, readName(in));
+                    if (building != null) {
+                        buildings.add(building);
+                        tiles.add(tile);
+                    }
+                }
+                event = new BuildingBatchEvent(source, type, buildings, tiles);
+                break;
+            }
+            case KIND_TURN: {
+                int turnNumber = in.getInt();
+                TurnPhase newPhase = fromOrdinal(PHASES, in.get());
+                int previousTurn = in.getInt();
+                TurnPhase previousPhase = fromOrdinal(PHASES, in.get());
+                event = new TurnEvent(source, type, turnNumber, newPhase, previousTurn, previousPhase);
+                break;
+            }
+            case KIND_TILE: {
+                Tile tile = readTile(in, game);
+                event = new TileEvent(source, tile, fromOrdinal(TILE_UPDATES, in.get()));
+                break;
+            }
+            case KIND_GAME_STATE: {
+                GameStateEvent.GameStateType state = fromOrdinal(GAME_STATES, in.get());
+                boolean hasGame = in.get() == 1;
+                event = new GameStateEvent(source, state, hasGame ? game : null);
+                break;
+            }
+            case KIND_SHORTAGE: {
+                ResourceType resource = fromOrdinal(RESOURCE_TYPES, in.get());
+                event = new ResourceShortageEvent(source, resource, in.getInt());
+                break;
+            }
+            case KIND_FAST_FORWARD: {
+                int fromTurn = in.getInt();
+                int toTurn = in.getInt();
+                int mutedEvents = in.getInt();
+                int shortages = in.getInt();
+                event = new FastForwardEvent(source, fromTurn, toTurn, mutedEvents, shortages, in.getLong());
+                break;
+            }
+            default:
+                // Recorded by type only; cannot be rebuilt as its proper class
+                return null;
+        }
+
+        event.restore(busId, sequence, turn, phase, nanoTime, createdMillis);
+        return event;
+    }
+
+    private static byte kindOf(GameEvent event) {
+        if (event instanceof ResourceEvent) return KIND_RESOURCE;
+        if (event instanceof BuildingEvent) return KIND_BUILDING;
+        if (event instanceof BuildingBatchEvent) return KIND_BUILDING_BATCH;
+        if (event instanceof TurnEvent) return KIND_TURN;
+        if (event instanceof TileEvent) return KIND_TILE;
+        if (event instanceof GameStateEvent) return KIND_GAME_STATE;
+        if (event instanceof ResourceShortageEvent) return KIND_SHORTAGE;
+        if (event instanceof FastForwardEvent) return KIND_FAST_FORWARD;
+        return KIND_GENERIC;
+    }
+
+    private static void writeTile(Tile tile, ByteBuffer out) {
+        out.putInt(tile != null ? tile.getX() : NONE);
+        out.putInt(tile != null ? tile.getY() : NONE);
+    }
+
+    private static Tile readTile(ByteBuffer in, Game game) {
+        int x = in.getInt();
+        int y = in.getInt();
+        if (x == NONE || game == null || game.getPlanet() == null) {
+            return null;
+        }
+        return game.getPlanet().getTileAt(x, y);
+    }
+
+    private static void writeName(String name, ByteBuffer out) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    private static String readName(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Finds the building a record refers to: the one on its tile if the name
+     * matches, otherwise a new unplaced building of that kind.
+     */
+    private static Building resolveBuilding(Tile tile, String name) {
+        if (tile != null && tile.hasBuilding() && tile.getBuilding().getName().equals(name)) {
+            return tile.getBuilding();
+        }
+        return BuildingFactory.createByName(name);
+    }
+
+    private static byte ordinal(Enum<?> value) {
+        return value != null ? (byte) value.ordinal() : NONE;
+    }
+
+    private static <E> E fromOrdinal(E[] values, byte ordinal) {
+        return ordinal >= 0 ? values[ordinal] : null;
+    }
+}
@@ -0,0 +1,368 @@
+package com.colonygenesis.event;
+
+import com.colonygenesis.core.Game;
+import com.colonygenesis.util.LoggerUtils;
+import com.colonygenesis.util.Result;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Append-only record of every published event.
+ *
+ * <p>Register the journal on an {@link EventBus} to record events. Records
+ * are encoded by {@link EventCodec} and appended to memory-mapped segment
+ * files that roll over when full. A sparse index maps each turn to the first
+ * record written during it, so {@link #replay} can start at any turn without
+ * scanning earlier segments.</p>
+ *
+ * <p>Turn numbers repeat across games, so the journal is divided into runs
+ * and the index is kept per run. A new run starts with the first record of
+ * each session, when records come from a different bus, and when the turn
+ * goes backwards, as it does after a new game on the same bus or an undone
+ * turn. Replay stays within one run.</p>
+ *
+ * <p>Record layout within a segment: a 4-byte length followed by the encoded
+ * event. A zero length marks the end of the written data, since new segment
+ * files are zero-filled.</p>
+ */
+public class EventJournal implements EventListener {
+    private static final Logger LOGGER = LoggerUtils.getLogger(EventJournal.class);
+
+    private static final int DEFAULT_SEGMENT_SIZE = 8 * 1024 * 1024;
+    private static final int LENGTH_PREFIX = 4;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String INDEX_FILE = "turns.idx";
+    private static final int INDEX_ENTRY_SIZE = 16; // run, turn, segment, offset
+
+    private final Path directory;
+    private final int segmentSize;
+
+    private MappedByteBuffer segment;
+    private int segmentNumber;
+    private final FileChannel indexChannel;
+    private final ByteBuffer indexEntry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+
+    // First record position for each turn of each run; segment number in the high 32 bits, offset in the low
+    private final TreeMap<Integer, TreeMap<Integer, Long>> runIndex = new TreeMap<>();
+    private int currentRun = -1; // No run has been written by this session yet
+    private long lastBusId;
+    private int lastIndexedTurn = Integer.MIN_VALUE;
+
+    private ByteBuffer scratch = ByteBuffer.allocate(1024);
+    private long recordCount;
+    private boolean closed;
+
+    private EventJournal(Path directory, int segmentSize) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+
+        Files.createDirectories(directory);
+        this.indexChannel = FileChannel.open(directory.resolve(INDEX_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        loadIndex();
+        openLastSegment();
+    }
+
+    /**
+     * Opens a journal in a directory, continuing after any records already there.
+     *
+     * @param directory The directory holding the segment files
+     * @return A Result containing the journal, or a failure if it cannot be opened
+     */
+    public static Result<EventJournal> open(Path directory) {
+        return open(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens a journal with a specific segment size.
+     *
+     * @param directory The directory holding the segment files
+     * @param segmentSize The size of each segment file in bytes
+     * @return A Result containing the journal, or a failure if it cannot be opened
+     */
+    public static Result<EventJournal> open(Path directory, int segmentSize) {
+        if (directory == null) {
+            return Result.failure("Journal directory cannot be null");
+        }
+        if (segmentSize < 1024) {
+            return Result.failure("Segment size must be at least 1024 bytes");
+        }
+
+        try {
+            EventJournal journal = new EventJournal(directory, segmentSize);
+            LOGGER.info("Event journal opened at " + directory + " with " + journal.runIndex.size() + " runs");
+            return Result.success(journal);
+        } catch (IOException e) {
+            return Result.failure("Cannot open event journal: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void onEvent(GameEvent event) {
+        // Events replayed from this journal are not recorded again
+        if (closed || event.getSource() == this) {
+            return;
+        }
+
+        scratch.clear();
+        while (!EventCodec.encode(event, scratch)) {
+            scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+        }
+        scratch.flip();
+
+        try {
+            int length = scratch.remaining();
+            if (segment.remaining() < LENGTH_PREFIX + length) {
+                rollSegment(LENGTH_PREFIX + length);
+            }
+
+            int turn = event.getPublishTurn();
+            if (currentRun < 0 || event.getBusId() != lastBusId || turn < lastIndexedTurn) {
+                startRun(event.getBusId());
+            }
+            if (turn != lastIndexedTurn) {
+                indexTurn(turn, segment.position());
+            }
+
+            segment.putInt(length);
+            segment.put(scratch);
+            recordCount++;
+        } catch (IOException e) {
+            LOGGER.severe("Event journal write failed, journaling stopped: " + e.getMessage());
+            closed = true;
+        }
+    }
+
+    /**
+     * Publishes every event recorded in the latest run from a turn onwards
+     * through a bus, in the order they were recorded. Replayed events keep
+     * their original sequence, turn and phase stamps.
+     *
+     * @param fromTurn The first turn to replay
+     * @param bus The bus to publish to
+     * @param game The game used to resolve tiles and buildings
+     * @return A Result containing the number of events replayed
+     */
+    public synchronized Result<Integer> replay(int fromTurn, EventBus bus, Game game) {
+        if (runIndex.isEmpty()) {
+            return Result.success(0);
+        }
+        return replay(runIndex.lastKey(), fromTurn, bus, game);
+    }
+
+    /**
+     * Publishes every event recorded in one run from a turn onwards through
+     * a bus, in the order they were recorded.
+     *
+     * @param run The run to replay, as listed by {@link #getRuns}
+     * @param fromTurn The first turn to replay
+     * @param bus The bus to publish to
+     * @param game The game used to resolve tiles and buildings
+     * @return A Result containing the number of events replayed
+     */
+    public synchronized Result<Integer> replay(int run, int fromTurn, EventBus bus, Game game) {
+        if (bus == null) {
+            return Result.failure("Event bus cannot be null");
+        }
+        TreeMap<Integer, Long> turnIndex = runIndex.get(run);
+        if (turnIndex == null) {
+            return Result.failure("No run " + run + " in the journal");
+        }
+
+        Map.Entry<Integer, Long> start = turnIndex.ceilingEntry(fromTurn);
+        if (start == null) {
+            return Result.success(0);
+        }
+
+        // The run ends where the next one starts
+        Map.Entry<Integer, TreeMap<Integer, Long>> nextRun = runIndex.higherEntry(run);
+        long end = nextRun != null ? firstPosition(nextRun.getValue()) : Long.MAX_VALUE;
+
+        int firstSegment = (int) (start.getValue() >>> 32);
+        int offset = (int) (long) start.getValue();
+        int replayed = 0;
+
+        try {
+            for (int number = firstSegment; number <= segmentNumber; number++) {
+                ByteBuffer records = readSegment(number);
+                records.position(number == firstSegment ? offset : 0);
+
+                while (records.remaining() >= LENGTH_PREFIX && position(number, records.position()) < end) {
+                    int length = records.getInt();
+                    if (length == 0) {
+                        break;
+                    }
+
+                    ByteBuffer record = records.slice(records.position(), length);
+                    records.position(records.position() + length);
+
+                    GameEvent event = EventCodec.decode(record, this, game);
+                    if (event != null && event.getPublishTurn() >= fromTurn) {
+                        bus.publish(event);
+                        replayed++;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            return Result.failure("Replay failed after " + replayed + " events: " + e.getMessage());
+        }
+
+        LOGGER.info("Replayed " + replayed + " events from turn " + fromTurn + " of run " + run);
+        return Result.success(replayed);
+    }
+
+    /**
+     * Flushes written records to disk and stops recording.
+     */
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        segment.force();
+        try {
+            indexChannel.force(false);
+            indexChannel.close();
+        } catch (IOException e) {
+            LOGGER.warning("Failed to close journal index: " + e.getMessage());
+        }
+
+        LOGGER.info("Event journal closed after " + recordCount + " records");
+    }
+
+    /**
+     * Gets the number of records written since the journal was opened.
+     */
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Gets the turns of the latest run that have indexed records, in ascending order.
+     */
+    public synchronized List<Integer> getIndexedTurns() {
+        return runIndex.isEmpty() ? new ArrayList<>() : new ArrayList<>(runIndex.lastEntry().getValue().keySet());
+    }
+
+    /**
+     * Gets the runs in the journal, oldest first.
+     */
+    public synchronized List<Integer> getRuns() {
+        return new ArrayList<>(runIndex.keySet());
+    }
+
+    private void startRun(long busId) {
+        currentRun = runIndex.isEmpty() ? 0 : runIndex.lastKey() + 1;
+        runIndex.put(currentRun, new TreeMap<>());
+        lastBusId = busId;
+        lastIndexedTurn = Integer.MIN_VALUE;
+    }
+
+    private void indexTurn(int turn, int offset) throws IOException {
+        lastIndexedTurn = turn;
+
+        // Keep the earliest position if a turn number repeats within a run
+        if (runIndex.get(currentRun).putIfAbsent(turn, position(segmentNumber, offset)) != null) {
+            return;
+        }
+
+        indexEntry.clear();
+        indexEntry.putInt(currentRun).putInt(turn).putInt(segmentNumber).putInt(offset).flip();
+        indexChannel.write(indexEntry, indexChannel.size());
+    }
+
+    private void loadIndex() throws IOException {
+        ByteBuffer entries = ByteBuffer.allocate((int) indexChannel.size());
+        indexChannel.read(entries, 0);
+        entries.flip();
+
+        while (entries.remaining() >= INDEX_ENTRY_SIZE) {
+            int run = entries.getInt();
+            int turn = entries.getInt();
+            runIndex.computeIfAbsent(run, key -> new TreeMap<>())
+                    .putIfAbsent(turn, position(entries.getInt(), entries.getInt()));
+        }
+    }
+
+    private static long firstPosition(TreeMap<Integer, Long> turnIndex) {
+        long first = Long.MAX_VALUE;
+        for (long position : turnIndex.values()) {
+            first = Math.min(first, position);
+        }
+        return first;
+    }
+
+    private void openLastSegment() throws IOException {
+        int last = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    int number = Integer.parseInt(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length()));
+                    last = Math.max(last, number);
+                }
+            }
+        }
+
+        segmentNumber = last;
+        Path file = segmentPath(last);
+        long size = Files.exists(file) ? Math.max(Files.size(file), segmentSize) : segmentSize;
+        segment = map(file, size);
+
+        // Skip past records written by an earlier session
+        while (segment.remaining() >= LENGTH_PREFIX) {
+            int length = segment.getInt(segment.position());
+            if (length == 0) {
+                break;
+            }
+            segment.position(segment.position() + LENGTH_PREFIX + length);
+        }
+    }
+
+    private void rollSegment(int required) throws IOException {
+        segment.force();
+        segmentNumber++;
+        segment = map(segmentPath(segmentNumber), Math.max(segmentSize, required));
+        LOGGER.fine("Event journal rolled to segment " + segmentNumber);
+    }
+
+    private ByteBuffer readSegment(int number) throws IOException {
+        if (number == segmentNumber) {
+            return segment.duplicate().position(0);
+        }
+        try (FileChannel channel = FileChannel.open(segmentPath(number), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private MappedByteBuffer map(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private Path segmentPath(int number) {
+        return directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private static long position(int segment, int offset) {
+        return ((long) segment << 32) | (offset & 0xFFFFFFFFL);
+    }
+}
@@ -1,10 +1,39 @@
 package com.colonygenesis.event;
 
+import java.util.List;
+
 public interface EventListener {
     void onEvent(GameEvent event);
 
-    // Optional method to specify what events this listener cares about
+    // Called with the events buffered by a batch scope, in delivery order.
+    // Override to handle a whole batch at once; by default each event is passed to onEvent.
+    default void onBatch(List<GameEvent> events) {
+        for (GameEvent event : events) {
+            onEvent(event);
+        }
+    }
+
+    // Optional method to specify what events this listener cares about.
+    // Checked once when the listener is registered, not on every publish.
     default boolean isInterestedIn(GameEvent.EventType eventType) {
         return true; // By default, listen to all events
     }
-}
\ No newline at end of file
+
+    // Optional method to mark listeners that only keep the user interface up to date.
+    // Muting the bus silences these; every other listener keeps receiving events.
+    // Checked once when the listener is registered.
+    default boolean isUiBound() {
+        return false;
+    }
+
+    // Optional method to specify how events are delivered.
+    // Checked once when the listener is registered.
+    default DispatchMode getDispatchMode() {
+        return DispatchMode.SYNCHRONOUS;
+    }
+
+    enum DispatchMode {
+        SYNCHRONOUS,  // Called on the publisher's thread before publish returns
+        ASYNCHRONOUS  // Queued and called in order on the listener's own thread
+    }
+}
@@ -1,48 +1,204 @@
 package com.colonygenesis.event;
 
+import com.colonygenesis.core.TurnPhase;
+import com.colonygenesis.event.events.BuildingBatchEvent;
+import com.colonygenesis.event.events.BuildingEvent;
+import com.colonygenesis.event.events.BuildingStateChangedEvent;
+import com.colonygenesis.event.events.FastForwardEvent;
+import com.colonygenesis.event.events.GameStateEvent;
+import com.colonygenesis.event.events.ResourceEvent;
+import com.colonygenesis.event.events.ResourceShortageEvent;
+import com.colonygenesis.event.events.TileEvent;
+import com.colonygenesis.event.events.TurnEvent;
+
 import java.time.Instant;
 import java.util.UUID;
 
 public abstract class GameEvent {
-    private final UUID id;
-    private final Instant timestamp;
+    private static final int UNSTAMPED = -1;
+
+    private long createdMillis;
     private final Object source;
     private final EventType type;
 
+    // Stamped by the EventBus when the event is first published
+    private long sequence;
+    private int turn = UNSTAMPED;
+    private TurnPhase phase;
+    private long nanoTime;
+    private long busId;
+
+    // Materialized on first request only
+    private volatile Instant timestamp;
+    private volatile UUID id;
+
     public GameEvent(Object source, EventType type) {
-        this.id = UUID.randomUUID();
-        this.timestamp = Instant.now();
+        // Typed subscriptions rely on every event of a type being an instance of its class
+        if (!type.getEventClass().isAssignableFrom(getClass())) {
+            throw new IllegalArgumentException(type + " events must be instances of " +
+                    type.getEventClass().getSimpleName());
+        }
+        this.createdMillis = System.currentTimeMillis();
         this.source = source;
         this.type = type;
     }
 
+    /**
+     * Stamps the event with its position in the bus's publish order.
+     */
+    void stamp(long busId, long sequence, int turn, TurnPhase phase, long nanoTime) {
+        this.busId = busId;
+        this.sequence = sequence;
+        this.turn = turn;
+        this.phase = phase;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Restores the stamp and creation time of an event read back from a journal.
+     */
+    void restore(long busId, long sequence, int turn, TurnPhase phase, long nanoTime, long createdMillis) {
+        stamp(busId, sequence, turn, phase, nanoTime);
+        this.createdMillis = createdMillis;
+    }
+
+    long getBusId() {
+        return busId;
+    }
+
+    long getCreatedMillis() {
+        return createdMillis;
+    }
+
+    /**
+     * Gets a unique identifier for this event. Derived from the bus and
+     * sequence number once published, so no random UUID is generated
+     * unless the event was never published.
+     */
     public UUID getId() {
-        return id;
+        UUID result = id;
+        if (result == null) {
+            synchronized (this) {
+                result = id;
+                if (result == null) {
+                    result = sequence != 0 ? new UUID(busId, sequence) : UUID.randomUUID();
+                    id = result;
+                }
+            }
+        }
+        return result;
     }
 
+    /**
+     * Gets the wall-clock time the event was created.
+     */
     public Instant getTimestamp() {
-        return timestamp;
+        Instant result = timestamp;
+        if (result == null) {
+            result = Instant.ofEpochMilli(createdMillis);
+            timestamp = result;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the event's position in its bus's publish order, starting at 1.
+     *
+     * @return The sequence number, or 0 if the event has not been published
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the game turn during which the event was published.
+     *
+     * @return The turn number, or -1 if the event has not been published
+     */
+    public int getPublishTurn() {
+        return turn;
+    }
+
+    /**
+     * Gets the turn phase during which the event was published.
+     *
+     * @return The phase, or null if the event has not been published
+     */
+    public TurnPhase getPublishPhase() {
+        return phase;
+    }
+
+    /**
+     * Gets the System.nanoTime() value at publish, if the bus records it.
+     *
+     * @return The publish time in nanoseconds, or 0 if not recorded
+     */
+    public long getNanoTime() {
+        return nanoTime;
     }
 
     public Object getSource() {
         return source;
     }
 
+    /**
+     * Gets what this event is the latest value of, for sticky event types.
+     * The bus keeps one event per type and topic key and replays it to new
+     * listeners. Events that describe one of several independent values,
+     * such as a single resource, override this to return that value's key.
+     *
+     * @return The topic key, or null if the type has a single value
+     */
+    public Object getTopicKey() {
+        return null;
+    }
+
     public EventType getType() {
         return type;
     }
 
     public enum EventType {
-        RESOURCE_CHANGED,
-        BUILDING_PLACED,
-        BUILDING_COMPLETED,
-        BUILDING_ACTIVATED,
-        BUILDING_DEACTIVATED,
-        BUILDING_REMOVED,  // Add this entry
-        TURN_ADVANCED,
-        PHASE_CHANGED,
-        TILE_UPDATED,
-        GAME_STATE_CHANGED,
-        RESOURCE_SHORTAGE  // Add this entry
-    }
-}
\ No newline at end of file
+        RESOURCE_CHANGED(ResourceEvent.class, true),
+        BUILDING_PLACED(BuildingEvent.class),
+        BUILDING_COMPLETED(BuildingEvent.class),
+        BUILDING_ACTIVATED(BuildingStateChangedEvent.class),
+        BUILDING_DEACTIVATED(BuildingStateChangedEvent.class),
+        BUILDING_REMOVED(BuildingEvent.class),
+        BUILDINGS_PLACED(BuildingBatchEvent.class),
+        BUILDINGS_REMOVED(BuildingBatchEvent.class),
+        BUILDINGS_ACTIVATED(BuildingBatchEvent.class),
+        BUILDINGS_DEACTIVATED(BuildingBatchEvent.class),
+        TURN_ADVANCED(TurnEvent.class, true),
+        PHASE_CHANGED(TurnEvent.class, true),
+        TILE_UPDATED(TileEvent.class),
+        GAME_STATE_CHANGED(GameStateEvent.class, true),
+        RESOURCE_SHORTAGE(ResourceShortageEvent.class),
+        FAST_FORWARDED(FastForwardEvent.class);
+
+        private final Class<? extends GameEvent> eventClass;
+        private final boolean sticky;
+
+        EventType(Class<? extends GameEvent> eventClass) {
+            this(eventClass, false);
+        }
+
+        EventType(Class<? extends GameEvent> eventClass, boolean sticky) {
+            this.eventClass = eventClass;
+            this.sticky = sticky;
+        }
+
+        /**
+         * Gets the class every event of this type is an instance of.
+         */
+        public Class<? extends GameEvent> getEventClass() {
+            return eventClass;
+        }
+
+        /**
+         * Checks if the bus keeps the latest event of this type for new listeners.
+         */
+        public boolean isSticky() {
+            return sticky;
+        }
+    }
+}
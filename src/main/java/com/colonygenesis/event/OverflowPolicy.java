@@ -0,0 +1,18 @@
+package com.colonygenesis.event;
+
+/**
+ * What an asynchronous listener's queue does when an event arrives and the queue is full.
+ */
+public enum OverflowPolicy {
+    /** The publisher waits until the listener catches up. No events are lost. */
+    BLOCK,
+    /** The oldest queued event is discarded to make room. */
+    DROP_OLDEST,
+    /**
+     * The newest queued event of the same type and topic key is discarded and
+     * the new event is appended, so the listener sees the latest event of each
+     * topic in publish order. Falls back to dropping the oldest event when no
+     * event of that topic is queued.
+     */
+    COALESCE_BY_TYPE
+}
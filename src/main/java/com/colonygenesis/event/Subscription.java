@@ -0,0 +1,48 @@
+package com.colonygenesis.event;
+
+/**
+ * Handle for a listener registration on an {@link EventBus}.
+ *
+ * <p>Closing the handle unregisters the listener. Closing it again does
+ * nothing, so handles can be closed both individually and by the
+ * {@link SubscriptionScope} that collected them.</p>
+ */
+public final class Subscription implements AutoCloseable {
+    private final EventBus eventBus;
+    private final EventListener listener;
+    private volatile boolean active = true;
+
+    Subscription(EventBus eventBus, EventListener listener) {
+        this.eventBus = eventBus;
+        this.listener = listener;
+    }
+
+    /**
+     * Gets the listener as it is held by the bus.
+     *
+     * @return The registered listener
+     */
+    public EventListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Checks if the listener is still registered through this handle.
+     *
+     * @return true until the handle is closed, false afterwards
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Unregisters the listener.
+     */
+    @Override
+    public void close() {
+        if (active) {
+            active = false;
+            eventBus.unregister(listener);
+        }
+    }
+}
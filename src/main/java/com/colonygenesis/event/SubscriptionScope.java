@@ -0,0 +1,139 @@
+package com.colonygenesis.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Collects the subscriptions made by one component so they can be closed
+ * together when the component is disposed.
+ *
+ * <p>Registrations go through the scope's own {@link #register} and
+ * {@link #subscribe} methods, which forward to the bus and keep the returned
+ * handle. Registering through a closed scope fails, so a disposed component
+ * cannot leave listeners behind.</p>
+ */
+public class SubscriptionScope implements AutoCloseable {
+    private final EventBus eventBus;
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private boolean closed;
+
+    public SubscriptionScope(EventBus eventBus) {
+        if (eventBus == null) {
+            throw new IllegalArgumentException("Event bus cannot be null");
+        }
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * Registers a listener on the bus for the lifetime of this scope.
+     *
+     * @param listener The listener to register
+     * @param eventTypes The event types to receive, or none for all
+     * @return The subscription handle
+     */
+    public Subscription register(EventListener listener, GameEvent.EventType... eventTypes) {
+        ensureOpen();
+        return add(eventBus.register(listener, eventTypes));
+    }
+
+    /**
+     * Subscribes a typed handler on the bus for the lifetime of this scope.
+     *
+     * @param eventClass The class of events to receive
+     * @param handler The handler to call
+     * @param eventTypes The event types to receive, or none for every type of that class
+     * @param <E> The event class
+     * @return The subscription handle
+     */
+    public <E extends GameEvent> Subscription subscribe(Class<E> eventClass, Consumer<? super E> handler,
+                                                        GameEvent.EventType... eventTypes) {
+        ensureOpen();
+        return add(eventBus.subscribe(eventClass, handler, eventTypes));
+    }
+
+    /**
+     * Subscribes a typed handler that only updates the user interface, so
+     * muting the bus silences it.
+     *
+     * @param eventClass The class of events to receive
+     * @param handler The handler to call
+     * @param eventTypes The event types to receive, or none for every type of that class
+     * @param <E> The event class
+     * @return The subscription handle
+     * @see EventBus#subscribeUi
+     */
+    public <E extends GameEvent> Subscription subscribeUi(Class<E> eventClass, Consumer<? super E> handler,
+                                                          GameEvent.EventType... eventTypes) {
+        ensureOpen();
+        return add(eventBus.subscribeUi(eventClass, handler, eventTypes));
+    }
+
+    /**
+     * Adds a subscription made elsewhere, so it is closed with this scope.
+     *
+     * @param subscription The subscription to track
+     * @return The same subscription
+     */
+    public synchronized Subscription add(Subscription subscription) {
+        if (closed) {
+            subscription.close();
+            throw new IllegalStateException("Subscription scope is closed");
+        }
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Gets the event bus this scope registers on.
+     *
+     * @return The event bus
+     */
+    public EventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Gets the number of subscriptions this scope holds.
+     *
+     * @return The subscription count
+     */
+    public synchronized int size() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Checks if the scope has been closed.
+     *
+     * @return true if closed, false otherwise
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Closes every subscription made through this scope.
+     */
+    @Override
+    public void close() {
+        List<Subscription> toClose;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toClose = new ArrayList<>(subscriptions);
+            subscriptions.clear();
+        }
+
+        for (Subscription subscription : toClose) {
+            subscription.close();
+        }
+    }
+
+    private synchronized void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Subscription scope is closed");
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.colonygenesis.event;
+
+import java.util.function.Consumer;
+
+/**
+ * Adapts a typed event handler to the dispatch table. The bus only puts it
+ * under event types whose class matches the handler's, so events are passed
+ * straight through without inspecting their type.
+ */
+final class TypedHandler<E extends GameEvent> implements EventListener {
+    private final Class<E> eventClass;
+    private final Consumer<? super E> handler;
+    private final boolean uiBound;
+
+    TypedHandler(Class<E> eventClass, Consumer<? super E> handler, boolean uiBound) {
+        this.eventClass = eventClass;
+        this.handler = handler;
+        this.uiBound = uiBound;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onEvent(GameEvent event) {
+        handler.accept((E) event);
+    }
+
+    @Override
+    public boolean isUiBound() {
+        return uiBound;
+    }
+
+    @Override
+    public String toString() {
+        return "TypedHandler[" + eventClass.getSimpleName() + " -> " + handler + "]";
+    }
+}
@@ -0,0 +1,64 @@
+package com.colonygenesis.event;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+/**
+ * Holds a listener through a weak reference so the registration does not
+ * keep it alive. Once the listener has been collected, the next event
+ * delivered to this wrapper unregisters it from the bus.
+ */
+final class WeakListener implements EventListener {
+    private final WeakReference<EventListener> reference;
+    private final EventBus eventBus;
+    private final DispatchMode dispatchMode;
+    private final boolean uiBound;
+
+    WeakListener(EventListener listener, EventBus eventBus) {
+        this.reference = new WeakReference<>(listener);
+        this.eventBus = eventBus;
+        this.dispatchMode = listener.getDispatchMode();
+        this.uiBound = listener.isUiBound();
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        EventListener listener = reference.get();
+        if (listener != null) {
+            listener.onEvent(event);
+        } else {
+            eventBus.unregister(this);
+        }
+    }
+
+    @Override
+    public void onBatch(List<GameEvent> events) {
+        EventListener listener = reference.get();
+        if (listener != null) {
+            listener.onBatch(events);
+        } else {
+            eventBus.unregister(this);
+        }
+    }
+
+    @Override
+    public boolean isInterestedIn(GameEvent.EventType eventType) {
+        EventListener listener = reference.get();
+        return listener != null && listener.isInterestedIn(eventType);
+    }
+
+    @Override
+    public DispatchMode getDispatchMode() {
+        return dispatchMode;
+    }
+
+    @Override
+    public boolean isUiBound() {
+        return uiBound;
+    }
+
+    @Override
+    public String toString() {
+        return "WeakListener[" + reference.get() + "]";
+    }
+}
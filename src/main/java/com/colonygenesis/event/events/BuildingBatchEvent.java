@@ -0,0 +1,85 @@
+package com.colonygenesis.event.events;
+
+import com.colonygenesis.building.Building;
+import com.colonygenesis.event.GameEvent;
+import com.colonygenesis.map.Tile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Event describing the same change applied to many buildings at once.
+ * Each building is paired with the tile it occupied when the change was
+ * made, which for removals is the tile it was detached from.
+ */
+public class BuildingBatchEvent extends GameEvent {
+    private final List<Building> buildings;
+    private final List<Tile> tiles;
+
+    /**
+     * Creates a batch event for buildings that are still placed; each tile is
+     * taken from the building's current location.
+     */
+    public BuildingBatchEvent(Object source, EventType type, List<Building> buildings) {
+        this(source, type, buildings, locationsOf(buildings));
+    }
+
+    /**
+     * Creates a batch event with an explicit tile for each building.
+     *
+     * @param buildings The buildings that changed
+     * @param tiles The tile of each building, in the same order
+     * @throws IllegalArgumentException if the lists differ in size
+     */
+    public BuildingBatchEvent(Object source, EventType type, List<Building> buildings, List<Tile> tiles) {
+        super(source, type);
+        if (buildings.size() != tiles.size()) {
+            throw new IllegalArgumentException("Expected one tile per building");
+        }
+        this.buildings = List.copyOf(buildings);
+        // List.copyOf rejects nulls, and an unresolved tile is recorded as null
+        this.tiles = new ArrayList<>(tiles);
+    }
+
+    public List<Building> getBuildings() {
+        return buildings;
+    }
+
+    /**
+     * Gets the tile of each building, in the same order as {@link #getBuildings()}.
+     * An entry is null if the building had no location.
+     */
+    public List<Tile> getTiles() {
+        return Collections.unmodifiableList(tiles);
+    }
+
+    public int size() {
+        return buildings.size();
+    }
+
+    private static List<Tile> locationsOf(List<Building> buildings) {
+        List<Tile> tiles = new ArrayList<>(buildings.size());
+        for (Building building : buildings) {
+            tiles.add(building.getLocation());
+        }
+        return tiles;
+    }
+
+    // Factory methods for common batch events
+    public static BuildingBatchEvent placed(Object source, List<Building> buildings) {
+        return new BuildingBatchEvent(source, EventType.BUILDINGS_PLACED, buildings);
+    }
+
+    public static BuildingBatchEvent removed(Object source, List<Building> buildings, List<Tile> tiles) {
+        return new BuildingBatchEvent(source, EventType.BUILDINGS_REMOVED, buildings, tiles);
+    }
+
+    public static BuildingBatchEvent activated(Object source, List<Building> buildings) {
+        return new BuildingBatchEvent(source, EventType.BUILDINGS_ACTIVATED, buildings);
+    }
+
+    public static BuildingBatchEvent deactivated(Object source, List<Building> buildings) {
+        return new BuildingBatchEvent(source, EventType.BUILDINGS_DEACTIVATED, buildings);
+    }
+}
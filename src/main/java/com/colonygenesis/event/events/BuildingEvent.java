@@ -31,12 +31,12 @@ public class BuildingEvent extends GameEvent {
         return new BuildingEvent(source, EventType.BUILDING_COMPLETED, building, tile);
     }
 
-    public static BuildingEvent activated(Object source, Building building, Tile tile) {
-        return new BuildingEvent(source, EventType.BUILDING_ACTIVATED, building, tile);
+    public static BuildingStateChangedEvent activated(Object source, Building building, Tile tile) {
+        return new BuildingStateChangedEvent(source, building, tile, true);
     }
 
-    public static BuildingEvent deactivated(Object source, Building building, Tile tile) {
-        return new BuildingEvent(source, EventType.BUILDING_DEACTIVATED, building, tile);
+    public static BuildingStateChangedEvent deactivated(Object source, Building building, Tile tile) {
+        return new BuildingStateChangedEvent(source, building, tile, false);
     }
 
     // Add the "removed" factory method
@@ -0,0 +1,25 @@
+package com.colonygenesis.event.events;
+
+import com.colonygenesis.building.Building;
+import com.colonygenesis.map.Tile;
+
+/**
+ * Event published when a single building is activated or deactivated.
+ */
+public class BuildingStateChangedEvent extends BuildingEvent {
+    private final boolean active;
+
+    public BuildingStateChangedEvent(Object source, Building building, Tile tile, boolean active) {
+        super(source, active ? EventType.BUILDING_ACTIVATED : EventType.BUILDING_DEACTIVATED, building, tile);
+        this.active = active;
+    }
+
+    /**
+     * Gets the state the building changed to.
+     *
+     * @return true if the building was activated, false if deactivated
+     */
+    public boolean isActive() {
+        return active;
+    }
+}
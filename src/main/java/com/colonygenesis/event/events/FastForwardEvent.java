@@ -0,0 +1,55 @@
+package com.colonygenesis.event.events;
+
+import com.colonygenesis.event.GameEvent;
+
+/**
+ * Event published once after several turns were played with the event bus
+ * muted. UI-bound listeners missed the individual events and should
+ * resynchronize from the game state when they receive it.
+ */
+public class FastForwardEvent extends GameEvent {
+    private final int fromTurn;
+    private final int toTurn;
+    private final int mutedEvents;
+    private final int shortages;
+    private final long elapsedNanos;
+
+    public FastForwardEvent(Object source, int fromTurn, int toTurn, int mutedEvents, int shortages, long elapsedNanos) {
+        super(source, EventType.FAST_FORWARDED);
+        this.fromTurn = fromTurn;
+        this.toTurn = toTurn;
+        this.mutedEvents = mutedEvents;
+        this.shortages = shortages;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getFromTurn() {
+        return fromTurn;
+    }
+
+    public int getToTurn() {
+        return toTurn;
+    }
+
+    public int getTurnsPlayed() {
+        return toTurn - fromTurn;
+    }
+
+    /**
+     * Gets the number of events that were published but not delivered.
+     */
+    public int getMutedEvents() {
+        return mutedEvents;
+    }
+
+    /**
+     * Gets the number of resource shortages reported while fast-forwarding.
+     */
+    public int getShortages() {
+        return shortages;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -31,6 +31,7 @@ public class GameStateEvent extends GameEvent {
         GAME_ENDED,
         VICTORY_ACHIEVED,
         CRISIS_STARTED,
-        CRISIS_RESOLVED
+        CRISIS_RESOLVED,
+        STATE_RESTORED
     }
 }
\ No newline at end of file
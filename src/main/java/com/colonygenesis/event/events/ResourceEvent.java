@@ -3,28 +3,28 @@ package com.colonygenesis.event.events;
 import com.colonygenesis.event.GameEvent;
 import com.colonygenesis.resource.ResourceType;
 
-import java.util.Map;
-
 public class ResourceEvent extends GameEvent {
     private final ResourceType resourceType;
     private final int amount;
     private final int previousAmount;
-    private final Map<ResourceType, Integer> allResources;
 
     public ResourceEvent(Object source, ResourceType resourceType, int amount, int previousAmount) {
         super(source, EventType.RESOURCE_CHANGED);
         this.resourceType = resourceType;
         this.amount = amount;
         this.previousAmount = previousAmount;
-        this.allResources = null;
     }
 
-    public ResourceEvent(Object source, Map<ResourceType, Integer> allResources) {
-        super(source, EventType.RESOURCE_CHANGED);
-        this.resourceType = null;
-        this.amount = 0;
-        this.previousAmount = 0;
-        this.allResources = allResources;
+    /**
+     * Creates an event that reports a resource's current amount without a change.
+     *
+     * @param source The event source
+     * @param resourceType The resource
+     * @param amount The current amount
+     * @return The event
+     */
+    public static ResourceEvent current(Object source, ResourceType resourceType, int amount) {
+        return new ResourceEvent(source, resourceType, amount, amount);
     }
 
     public ResourceType getResourceType() {
@@ -43,11 +43,11 @@ public class ResourceEvent extends GameEvent {
         return amount - previousAmount;
     }
 
-    public Map<ResourceType, Integer> getAllResources() {
-        return allResources;
-    }
-
-    public boolean isBulkUpdate() {
-        return allResources != null;
+    /**
+     * Each resource is its own sticky topic, so new listeners get every amount.
+     */
+    @Override
+    public Object getTopicKey() {
+        return resourceType;
     }
 }
\ No newline at end of file
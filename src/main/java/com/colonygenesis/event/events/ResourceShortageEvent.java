@@ -0,0 +1,29 @@
+package com.colonygenesis.event.events;
+
+import com.colonygenesis.event.GameEvent;
+import com.colonygenesis.resource.ResourceType;
+
+/**
+ * Event published when the colony cannot cover its consumption of a resource.
+ */
+public class ResourceShortageEvent extends GameEvent {
+    private final ResourceType resourceType;
+    private final int amount;
+
+    public ResourceShortageEvent(Object source, ResourceType resourceType, int amount) {
+        super(source, EventType.RESOURCE_SHORTAGE);
+        this.resourceType = resourceType;
+        this.amount = amount;
+    }
+
+    public ResourceType getResourceType() {
+        return resourceType;
+    }
+
+    /**
+     * Gets how many units were missing.
+     */
+    public int getAmount() {
+        return amount;
+    }
+}
@@ -90,6 +90,13 @@ public class HexGrid {
 
     // Helper method to calculate distance between hexes in axial coordinates
     private int calculateHexDistance(int x1, int y1, int x2, int y2) {
+        return distance(x1, y1, x2, y2);
+    }
+
+    /**
+     * Calculates the distance in steps between two hexes in axial coordinates.
+     */
+    public static int distance(int x1, int y1, int x2, int y2) {
         return (Math.abs(x1 - x2) + Math.abs(y1 - y2) + Math.abs(x1 + y1 - x2 - y2)) / 2;
     }
 
@@ -1,24 +1,58 @@
 package com.colonygenesis.map;
 
 //import com.colonygenesis.environment.EnvironmentManager;
+import com.colonygenesis.core.RandomService;
 import com.colonygenesis.resource.ResourceType;
+import com.colonygenesis.util.LoggerUtils;
 
 import java.util.*;
+import java.util.logging.Logger;
 
 public class Planet {
+    private static final Logger LOGGER = LoggerUtils.getLogger(Planet.class);
+
     private String name;
     private PlanetType type;
     private HexGrid grid;
     //private EnvironmentManager environment;
     private List<ResourceDeposit> resources;
-    private Random random;
+    private final SplittableRandom terrainRandom;
+    private final SplittableRandom depositRandom;
 
     public Planet(String name, PlanetType type, int width, int height) {
+        this(name, type, width, height, RandomService.newSeed());
+    }
+
+    /**
+     * Creates a planet whose terrain and deposits are generated from a seed,
+     * so the same seed always produces the same planet.
+     *
+     * @param name The planet name
+     * @param type The planet type
+     * @param width The grid width
+     * @param height The grid height
+     * @param seed The generation seed
+     */
+    public Planet(String name, PlanetType type, int width, int height, long seed) {
+        this(name, type, width, height, new RandomService(seed));
+    }
+
+    /**
+     * Creates a planet generated from a game's terrain and deposit streams.
+     *
+     * @param name The planet name
+     * @param type The planet type
+     * @param width The grid width
+     * @param height The grid height
+     * @param random The game's random number service
+     */
+    public Planet(String name, PlanetType type, int width, int height, RandomService random) {
         this.name = name;
         this.type = type;
         this.grid = new HexGrid(width, height);
         this.resources = new ArrayList<>();
-        this.random = new Random();
+        this.terrainRandom = random.stream(RandomService.TERRAIN);
+        this.depositRandom = random.stream(RandomService.DEPOSITS);
 
         // Environment manager will be implemented later
         // this.environment = new EnvironmentManager(this);
@@ -45,7 +79,7 @@ public class Planet {
     private TerrainType generateTerrainAt(int x, int y) {
         // Simplified terrain generation based on noise
         // We'll use a simple random approach for now
-        double value = random.nextDouble();
+        double value = terrainRandom.nextDouble();
 
         // Adjust probabilities based on planet type
         switch (type) {
@@ -133,8 +167,8 @@ public class Planet {
         // Place deposits
         for (int i = 0; i < numDeposits; i++) {
             // Random position
-            int x = random.nextInt(grid.getWidth());
-            int y = random.nextInt(grid.getHeight());
+            int x = depositRandom.nextInt(grid.getWidth());
+            int y = depositRandom.nextInt(grid.getHeight());
             Tile tile = grid.getTileAt(x, y);
 
             // Skip if already has a deposit
@@ -144,7 +178,7 @@ public class Planet {
 
             // Choose resource type based on probabilities
             ResourceType selectedType = null;
-            double rand = random.nextDouble();
+            double rand = depositRandom.nextDouble();
             double cumulativeProbability = 0.0;
 
             for (Map.Entry<ResourceType, Double> entry : depositProbabilities.entrySet()) {
@@ -160,21 +194,21 @@ public class Planet {
             }
 
             // Create deposit with varying yield
-            double yield = 1.5 + random.nextDouble() * 2.5; // 1.5 to 4.0
+            double yield = 1.5 + depositRandom.nextDouble() * 2.5; // 1.5 to 4.0
             String name = getDepositName(selectedType);
 
             ResourceDeposit deposit = new ResourceDeposit(selectedType, yield, name);
             tile.setResourceDeposit(deposit);
             resources.add(deposit);
 
-            System.out.println(deposit);
+            LOGGER.fine("Placed " + deposit.getName() + " (" + deposit.getResourceType() + ") at " + x + "," + y);
         }
     }
 
     private String getDepositName(ResourceType type) {
         // Generate a flavorful name for the deposit
         String[] prefixes = {"Rich", "Abundant", "Promising", "Massive", "Trace"};
-        String prefix = prefixes[random.nextInt(prefixes.length)];
+        String prefix = prefixes[depositRandom.nextInt(prefixes.length)];
 
         switch (type) {
             case FOOD:
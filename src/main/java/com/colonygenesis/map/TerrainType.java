@@ -1,34 +1,36 @@
 package com.colonygenesis.map;
 
-import javafx.scene.paint.Color;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 import com.colonygenesis.resource.ResourceType;
 
 public enum TerrainType {
-    PLAINS("Plains", 1.0, 1.0, Color.LIGHTGREEN),
-    MOUNTAINS("Mountains", 2.5, 0.7, Color.GRAY),
-    FOREST("Forest", 1.5, 0.9, Color.DARKGREEN),
-    WATER("Water", 3.0, 0.0, Color.LIGHTSKYBLUE),
-    DESERT("Desert", 1.2, 0.5, Color.SANDYBROWN),
-    TUNDRA("Tundra", 1.8, 0.6, Color.LIGHTBLUE);
+    PLAINS("Plains", 1.0, 1.0),
+    MOUNTAINS("Mountains", 2.5, 0.7),
+    FOREST("Forest", 1.5, 0.9),
+    WATER("Water", 3.0, 0.0),
+    DESERT("Desert", 1.2, 0.5),
+    TUNDRA("Tundra", 1.8, 0.6);
 
     private final String name;
     private final double movementCost;
     private final double buildingModifier;
-    private final Color displayColor;
     private final Map<ResourceType, Double> resourceModifiers;
 
-    TerrainType(String name, double movementCost, double buildingModifier, Color displayColor) {
+    TerrainType(String name, double movementCost, double buildingModifier) {
         this.name = name;
         this.movementCost = movementCost;
         this.buildingModifier = buildingModifier;
-        this.displayColor = displayColor;
-        this.resourceModifiers = new HashMap<>();
+        this.resourceModifiers = new EnumMap<>(ResourceType.class);
+    }
 
-        // We'll initialize resource modifiers later when ResourceType is implemented
-        // For now, let's leave it empty
+    // Modifiers are filled in once, when the enum is loaded, and only read
+    // afterwards, so games on different threads can share them
+    static {
+        for (TerrainType terrain : values()) {
+            terrain.initializeResourceModifiers();
+        }
     }
 
     public String getName() {
@@ -43,21 +45,11 @@ public enum TerrainType {
         return buildingModifier;
     }
 
-    public Color getDisplayColor() {
-        return displayColor;
-    }
-
     public double getResourceModifier(ResourceType type) {
         return resourceModifiers.getOrDefault(type, 1.0);
     }
 
-    // This will be called when we initialize ResourceType
-    // In TerrainType.java, update the initializeResourceModifiers method:
-
-    public void initializeResourceModifiers() {
-        // Clear any existing modifiers
-        resourceModifiers.clear();
-
+    private void initializeResourceModifiers() {
         // Set default modifier for all resources (1.0 = no effect)
         for (ResourceType type : ResourceType.values()) {
             resourceModifiers.put(type, 1.0);
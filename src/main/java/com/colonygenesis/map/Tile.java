@@ -2,6 +2,7 @@ package com.colonygenesis.map;
 
 //import com.colonygenesis.building.Building;
 import com.colonygenesis.building.Building;
+import com.colonygenesis.core.StateHash;
 import com.colonygenesis.resource.ResourceType;
 //import com.colonygenesis.environment.EnvironmentalEffect;
 
@@ -27,6 +28,9 @@ public class Tile {
     private Map<ResourceType, Double> resourceModifiers;
     private ResourceDeposit resourceDeposit; // Special resource node
 
+    // Hash of the game this tile belongs to, kept current on every change
+    private StateHash stateHash;
+
     public Tile(int x, int y, TerrainType terrainType) {
         this.x = x;
         this.y = y;
@@ -51,6 +55,9 @@ public class Tile {
     }
 
     public void setTerrainType(TerrainType terrainType) {
+        if (stateHash != null) {
+            stateHash.replace(StateHash.terrainKey(this, this.terrainType), StateHash.terrainKey(this, terrainType));
+        }
         this.terrainType = terrainType;
     }
 
@@ -76,13 +83,40 @@ public class Tile {
     public boolean setBuilding(Building building) {
         // We already verified the tile is habitable and empty in building.canBuildOn
         // Just set the building without additional checks
+        if (stateHash != null) {
+            if (this.building != null) {
+                stateHash.toggle(StateHash.buildingKey(this, this.building));
+            }
+            stateHash.toggle(StateHash.buildingKey(this, building));
+        }
         this.building = building;
         return true;
     }
     public void removeBuilding() {
+        if (stateHash != null && building != null) {
+            stateHash.toggle(StateHash.buildingKey(this, building));
+        }
         this.building = null;
     }
 
+    /**
+     * Gets the hash this tile reports changes to.
+     *
+     * @return The game's state hash, or null if the tile is not tracked
+     */
+    public StateHash getStateHash() {
+        return stateHash;
+    }
+
+    /**
+     * Sets the hash this tile reports terrain and building changes to.
+     *
+     * @param stateHash The game's state hash
+     */
+    public void setStateHash(StateHash stateHash) {
+        this.stateHash = stateHash;
+    }
+
     // Resource methods
     public double getResourceYield(ResourceType resourceType) {
         double baseYield = terrainType.getResourceModifier(resourceType);
@@ -0,0 +1,313 @@
+package com.colonygenesis.population;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stores colonists in struct-of-arrays form so that per-turn updates walk
+ * flat primitive arrays instead of chasing one object per colonist.
+ * Colonist indices are not stable: removal moves another colonist into the
+ * freed slot.
+ *
+ * <p>Ages are kept as birth times against a pool clock, so a turn of ageing
+ * is one clock tick rather than a write to every colonist. While a
+ * {@link Checkpoint} is open, each block of {@value #BLOCK_SIZE} slots is
+ * copied before its first write, so restoring costs as much as the blocks
+ * the turn changed rather than a copy of the whole pool.</p>
+ */
+public class ColonistPool {
+    /** Home cell value for colonists without housing. */
+    public static final int HOMELESS = -1;
+    /** Job value for colonists without a workplace. */
+    public static final int UNEMPLOYED = -1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // Undo granularity; a power of two dividing the population update's chunk size,
+    // so parallel workers never save the same block
+    static final int BLOCK_SIZE = 256;
+    private static final int BLOCK_SHIFT = 8;
+
+    private int size;
+    private int clock; // Turns elapsed; a colonist's age is clock - birth
+
+    // One slot per colonist in every array
+    int[] homeCell;   // Grid cell index (y * width + x) of the colonist's home
+    int[] job;        // Grid cell index of the colonist's workplace
+    float[] morale;   // 0.0 to 1.0
+    int[] birth;      // Clock value at which the colonist's age was zero
+    float[] hunger;   // Accumulated unmet food need
+    float[] thirst;   // Accumulated unmet water need
+    float[] skill;    // 0.0 to 1.0, grows while employed
+
+    // Checkpoint currently recording, and per block the version of the checkpoint that saved it
+    private Checkpoint checkpoint;
+    private int checkpointVersion;
+    private int[] savedVersion;
+
+    public ColonistPool() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public ColonistPool(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 16);
+        homeCell = new int[capacity];
+        job = new int[capacity];
+        morale = new float[capacity];
+        birth = new int[capacity];
+        hunger = new float[capacity];
+        thirst = new float[capacity];
+        skill = new float[capacity];
+        savedVersion = new int[blockCount(capacity)];
+    }
+
+    /**
+     * Adds a colonist to the pool.
+     *
+     * @param home The home cell index, or {@link #HOMELESS}
+     * @param initialAge The colonist's age in turns
+     * @param initialMorale The colonist's starting morale
+     * @param initialSkill The colonist's starting work skill
+     * @return The index of the new colonist
+     */
+    public int add(int home, int initialAge, float initialMorale, float initialSkill) {
+        ensureCapacity(size + 1);
+
+        int index = size++;
+        touch(index);
+        homeCell[index] = home;
+        job[index] = UNEMPLOYED;
+        morale[index] = initialMorale;
+        birth[index] = clock - initialAge;
+        hunger[index] = 0f;
+        thirst[index] = 0f;
+        skill[index] = initialSkill;
+        return index;
+    }
+
+    /**
+     * Grows the backing arrays to hold at least the given number of colonists.
+     */
+    public void ensureCapacity(int required) {
+        if (required <= homeCell.length) {
+            return;
+        }
+
+        int capacity = Math.max(required, homeCell.length * 2);
+        homeCell = Arrays.copyOf(homeCell, capacity);
+        job = Arrays.copyOf(job, capacity);
+        morale = Arrays.copyOf(morale, capacity);
+        birth = Arrays.copyOf(birth, capacity);
+        hunger = Arrays.copyOf(hunger, capacity);
+        thirst = Arrays.copyOf(thirst, capacity);
+        skill = Arrays.copyOf(skill, capacity);
+        savedVersion = Arrays.copyOf(savedVersion, blockCount(capacity));
+    }
+
+    /**
+     * Moves a colonist from one slot to another, overwriting the target.
+     */
+    void move(int from, int to) {
+        touch(to);
+        homeCell[to] = homeCell[from];
+        job[to] = job[from];
+        morale[to] = morale[from];
+        birth[to] = birth[from];
+        hunger[to] = hunger[from];
+        thirst[to] = thirst[from];
+        skill[to] = skill[from];
+    }
+
+    /**
+     * Shrinks the logical size after compaction.
+     */
+    void truncate(int newSize) {
+        size = newSize;
+    }
+
+    /**
+     * Ages every colonist by one turn.
+     */
+    void advanceClock() {
+        clock++;
+    }
+
+    void setHomeCell(int index, int cell) {
+        if (homeCell[index] != cell) {
+            touch(index);
+            homeCell[index] = cell;
+        }
+    }
+
+    void setJob(int index, int cell) {
+        if (job[index] != cell) {
+            touch(index);
+            job[index] = cell;
+        }
+    }
+
+    /**
+     * Saves the block holding a slot if the open checkpoint has not saved it
+     * yet. Must be called before writing to the slot through the arrays.
+     * Slots beyond the checkpointed size need no saving, since restoring
+     * truncates them away.
+     *
+     * @param index The slot about to be written
+     */
+    void touch(int index) {
+        Checkpoint open = checkpoint;
+        if (open == null || index >= open.size) {
+            return;
+        }
+        int block = index >>> BLOCK_SHIFT;
+        if (savedVersion[block] != checkpointVersion) {
+            savedVersion[block] = checkpointVersion;
+            open.save(block);
+        }
+    }
+
+    /**
+     * Starts recording the pool's current state. Until the checkpoint is
+     * closed, every block is copied before its first write.
+     *
+     * @return The open checkpoint
+     * @throws IllegalStateException if a checkpoint is already open
+     */
+    Checkpoint checkpoint() {
+        if (checkpoint != null) {
+            throw new IllegalStateException("A checkpoint is already open");
+        }
+        checkpointVersion++;
+        checkpoint = new Checkpoint();
+        return checkpoint;
+    }
+
+    private static int blockCount(int capacity) {
+        return (capacity + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+    }
+
+    /**
+     * Removes every colonist.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getHomeCell(int index) {
+        return homeCell[index];
+    }
+
+    public int getJob(int index) {
+        return job[index];
+    }
+
+    public float getMorale(int index) {
+        return morale[index];
+    }
+
+    public int getAge(int index) {
+        return clock - birth[index];
+    }
+
+    public float getHunger(int index) {
+        return hunger[index];
+    }
+
+    public float getThirst(int index) {
+        return thirst[index];
+    }
+
+    public float getSkill(int index) {
+        return skill[index];
+    }
+
+    /**
+     * The pool's size and clock when a checkpoint was opened, plus a copy of
+     * every block written since, taken just before the first write.
+     */
+    final class Checkpoint implements AutoCloseable {
+        private final int size = ColonistPool.this.size;
+        private final int clock = ColonistPool.this.clock;
+        private final List<Block> blocks = new ArrayList<>();
+
+        private Checkpoint() {
+        }
+
+        // Parallel workers save distinct blocks, but share the list
+        private synchronized void save(int block) {
+            blocks.add(new Block(block << BLOCK_SHIFT, Math.min(BLOCK_SIZE, size - (block << BLOCK_SHIFT))));
+        }
+
+        /**
+         * Stops recording. Restoring is still possible afterwards.
+         */
+        @Override
+        public void close() {
+            if (checkpoint == this) {
+                checkpoint = null;
+            }
+        }
+
+        /**
+         * Puts the pool back as it was when the checkpoint was opened.
+         */
+        void restore() {
+            close();
+            for (Block block : blocks) {
+                block.restore();
+            }
+            blocks.clear();
+            ColonistPool.this.size = size;
+            ColonistPool.this.clock = clock;
+        }
+
+        /**
+         * Gets the number of blocks saved so far.
+         */
+        int getSavedBlocks() {
+            return blocks.size();
+        }
+    }
+
+    /**
+     * A copy of one block of slots.
+     */
+    private final class Block {
+        private final int start;
+        private final int[] homeCell;
+        private final int[] job;
+        private final float[] morale;
+        private final int[] birth;
+        private final float[] hunger;
+        private final float[] thirst;
+        private final float[] skill;
+
+        Block(int start, int length) {
+            this.start = start;
+            int end = start + length;
+            homeCell = Arrays.copyOfRange(ColonistPool.this.homeCell, start, end);
+            job = Arrays.copyOfRange(ColonistPool.this.job, start, end);
+            morale = Arrays.copyOfRange(ColonistPool.this.morale, start, end);
+            birth = Arrays.copyOfRange(ColonistPool.this.birth, start, end);
+            hunger = Arrays.copyOfRange(ColonistPool.this.hunger, start, end);
+            thirst = Arrays.copyOfRange(ColonistPool.this.thirst, start, end);
+            skill = Arrays.copyOfRange(ColonistPool.this.skill, start, end);
+        }
+
+        void restore() {
+            int length = homeCell.length;
+            System.arraycopy(homeCell, 0, ColonistPool.this.homeCell, start, length);
+            System.arraycopy(job, 0, ColonistPool.this.job, start, length);
+            System.arraycopy(morale, 0, ColonistPool.this.morale, start, length);
+            System.arraycopy(birth, 0, ColonistPool.this.birth, start, length);
+            System.arraycopy(hunger, 0, ColonistPool.this.hunger, start, length);
+            System.arraycopy(thirst, 0, ColonistPool.this.thirst, start, length);
+            System.arraycopy(skill, 0, ColonistPool.this.skill, start, length);
+        }
+    }
+}
@@ -0,0 +1,863 @@
+package com.colonygenesis.population;
+
+import com.colonygenesis.building.Building;
+import com.colonygenesis.building.ProductionBuilding;
+import com.colonygenesis.core.ChangeLog;
+import com.colonygenesis.core.Game;
+import com.colonygenesis.map.HexGrid;
+import com.colonygenesis.util.LoggerUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Assigns working-age colonists to production buildings.
+ *
+ * <p>The problem is solved as a min-cost flow on the bipartite graph of homes
+ * (supply = working-age residents) and workplaces (capacity = job slots), with
+ * travel distance as the edge cost. Each home is only connected to its nearest
+ * workplaces, so the graph stays sparse. Flows from the previous turn are kept
+ * as a warm start; only homes near added or removed workplaces get new
+ * candidate edges, and only unassigned supply is routed by successive
+ * shortest-path augmentation. Because old flows are reused rather than
+ * re-optimised, the result is near-optimal rather than exact.</p>
+ *
+ * <p>Flows are then mapped back onto individual colonists in one linear pass,
+ * keeping existing jobs where the flow still allows them.</p>
+ *
+ * <p>While the game's {@link ChangeLog} records, each home and workplace is
+ * saved before its first change in a solve, and adding or dropping one is
+ * recorded as well, so rolling back restores the exact warm start.</p>
+ */
+public class JobAssignmentSolver {
+    private static final Logger LOGGER = LoggerUtils.getLogger(JobAssignmentSolver.class);
+
+    private static final int CANDIDATES_PER_HOME = 8;
+    private static final int MAX_COMMUTE = 10;
+    private static final float SKILLED_THRESHOLD = 0.5f;
+    private static final int INFINITY = Integer.MAX_VALUE / 4;
+
+    private final Game game;
+
+    private int width;
+    private int height;
+    private Home[] homeAt = new Home[0];           // Indexed by grid cell
+    private Workplace[] workAt = new Workplace[0]; // Indexed by grid cell
+    private final List<Home> homes = new ArrayList<>();
+    private final List<Workplace> workplaces = new ArrayList<>();
+    private int[] supplyByCell = new int[0];
+    private int stamp;
+    private ChangeLog changeLog; // Set during a solve while changes are recorded, otherwise null
+
+    // Statistics from the last solve
+    private int lastDirtyHomes;
+    private int lastAugmentations;
+    private int lastEmployed;
+
+    public JobAssignmentSolver(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Updates job assignments for the current turn.
+     *
+     * @param pool The colonists to assign
+     * @param workingAge The minimum age in turns for employment
+     */
+    public void solve(ColonistPool pool, int workingAge) {
+        changeLog = game.getChangeLog().isRecording() ? game.getChangeLog() : null;
+        if (changeLog != null) {
+            int dirtyHomes = lastDirtyHomes;
+            int augmentations = lastAugmentations;
+            int employed = lastEmployed;
+            changeLog.record(() -> {
+                lastDirtyHomes = dirtyHomes;
+                lastAugmentations = augmentations;
+                lastEmployed = employed;
+            });
+        }
+
+        ensureGrid();
+        stamp++;
+        lastDirtyHomes = 0;
+
+        syncWorkplaces();
+        syncHomes(pool, workingAge);
+
+        for (Home home : homes) {
+            if (home.dirty) {
+                refreshCandidates(home);
+                lastDirtyHomes++;
+            }
+        }
+
+        reconcile();
+        lastAugmentations = augment();
+        assignColonists(pool, workingAge);
+        changeLog = null;
+
+        LOGGER.fine(String.format("Job assignment: %d homes (%d refreshed), %d workplaces, %d augmentations, %d employed",
+                homes.size(), lastDirtyHomes, workplaces.size(), lastAugmentations, lastEmployed));
+    }
+
+    /**
+     * Forgets every home, workplace and warm-start flow, so the next solve
+     * starts from scratch.
+     */
+    private void reset() {
+        width = 0;
+        height = 0;
+        homeAt = new Home[0];
+        workAt = new Workplace[0];
+        supplyByCell = new int[0];
+        homes.clear();
+        workplaces.clear();
+    }
+
+    private void ensureGrid() {
+        HexGrid grid = game.getPlanet().getGrid();
+        if (grid.getWidth() == width && grid.getHeight() == height) {
+            return;
+        }
+
+        // The grid only changes size before the first solve, when there is nothing to keep
+        if (changeLog != null) {
+            changeLog.record(this::reset);
+        }
+        width = grid.getWidth();
+        height = grid.getHeight();
+        int cells = width * height;
+        homeAt = new Home[cells];
+        workAt = new Workplace[cells];
+        supplyByCell = new int[cells];
+        homes.clear();
+        workplaces.clear();
+    }
+
+    /**
+     * Detects added, removed and resized workplaces and marks the homes around them dirty.
+     */
+    private void syncWorkplaces() {
+        List<Workplace> added = new ArrayList<>();
+
+        if (game.getBuildingManager() != null) {
+            for (Building building : game.getBuildingManager().getBuildings()) {
+                if (!(building instanceof ProductionBuilding) || !building.isActive() || building.getLocation() == null) {
+                    continue;
+                }
+
+                ProductionBuilding production = (ProductionBuilding) building;
+                int cell = building.getLocation().getY() * width + building.getLocation().getX();
+                Workplace existing = workAt[cell];
+
+                if (existing != null && existing.building == production) {
+                    if (existing.capacity != production.getJobSlots()) {
+                        save(existing);
+                        existing.capacity = production.getJobSlots();
+                    }
+                    existing.seen = stamp;
+                    continue;
+                }
+
+                if (existing != null) {
+                    removeWorkplace(existing);
+                }
+
+                Workplace workplace = new Workplace(cell, production);
+                workplace.seen = stamp;
+                workAt[cell] = workplace;
+                workplaces.add(workplace);
+                added.add(workplace);
+                if (changeLog != null) {
+                    changeLog.record(() -> {
+                        workplaces.remove(workplaces.size() - 1);
+                        workAt[cell] = null;
+                    });
+                }
+            }
+        }
+
+        // Anything not seen this turn was demolished or deactivated
+        for (Workplace workplace : new ArrayList<>(workplaces)) {
+            if (workplace.seen != stamp) {
+                removeWorkplace(workplace);
+            }
+        }
+
+        // Only homes that could now reach a closer workplace need new edges
+        if (!added.isEmpty()) {
+            for (Home home : homes) {
+                if (home.dirty) {
+                    continue;
+                }
+                for (Workplace workplace : added) {
+                    int distance = distance(home.cell, workplace.cell);
+                    if (distance <= MAX_COMMUTE &&
+                            (home.candidateCount < CANDIDATES_PER_HOME || distance < home.farthestCost())) {
+                        save(home);
+                        home.dirty = true;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private void removeWorkplace(Workplace workplace) {
+        int index = workplaces.indexOf(workplace);
+        workAt[workplace.cell] = null;
+        workplaces.remove(index);
+        if (changeLog != null) {
+            changeLog.record(() -> {
+                workplaces.add(index, workplace);
+                workAt[workplace.cell] = workplace;
+            });
+        }
+        setWorkforce(workplace.building, 0, 0f);
+
+        for (Home home : homes) {
+            for (int k = 0; k < home.candidateCount; k++) {
+                if (home.candidates[k] == workplace) {
+                    save(home);
+                    home.flow[k] = 0;
+                    home.dirty = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Recounts working-age residents per home and adds or drops homes.
+     */
+    private void syncHomes(ColonistPool pool, int workingAge) {
+        Arrays.fill(supplyByCell, 0);
+
+        int[] homeCell = pool.homeCell;
+        for (int i = 0; i < pool.size(); i++) {
+            if (homeCell[i] >= 0 && pool.getAge(i) >= workingAge) {
+                supplyByCell[homeCell[i]]++;
+            }
+        }
+
+        for (int cell = 0; cell < supplyByCell.length; cell++) {
+            int supply = supplyByCell[cell];
+            Home home = homeAt[cell];
+
+            if (supply > 0 && home == null) {
+                home = new Home(cell);
+                homeAt[cell] = home;
+                homes.add(home);
+                if (changeLog != null) {
+                    int added = cell;
+                    changeLog.record(() -> {
+                        homes.remove(homes.size() - 1);
+                        homeAt[added] = null;
+                    });
+                }
+            } else if (supply == 0 && home != null) {
+                for (int k = 0; k < home.candidateCount; k++) {
+                    if (home.candidates[k] != null) {
+                        save(home.candidates[k]);
+                        home.candidates[k].assigned -= home.flow[k];
+                    }
+                }
+                int index = homes.indexOf(home);
+                homeAt[cell] = null;
+                homes.remove(index);
+                if (changeLog != null) {
+                    Home removed = home;
+                    changeLog.record(() -> {
+                        homes.add(index, removed);
+                        homeAt[removed.cell] = removed;
+                    });
+                }
+                continue;
+            }
+
+            if (home != null && home.supply != supply) {
+                save(home);
+                home.supply = supply;
+            }
+        }
+    }
+
+    /**
+     * Rebuilds a home's nearest-workplace edges, keeping flow on edges that survive.
+     */
+    private void refreshCandidates(Home home) {
+        save(home);
+        Workplace[] oldCandidates = Arrays.copyOf(home.candidates, home.candidateCount);
+        int[] oldFlow = Arrays.copyOf(home.flow, home.candidateCount);
+
+        int hx = home.cell % width;
+        int hy = home.cell / width;
+        int count = 0;
+
+        // Search outward ring by ring so candidates come out sorted by distance
+        for (int radius = 0; radius <= MAX_COMMUTE && count < CANDIDATES_PER_HOME; radius++) {
+            for (int dx = -radius; dx <= radius && count < CANDIDATES_PER_HOME; dx++) {
+                for (int dy = -radius; dy <= radius && count < CANDIDATES_PER_HOME; dy++) {
+                    if (HexGrid.distance(0, 0, dx, dy) != radius) {
+                        continue;
+                    }
+                    int x = hx + dx;
+                    int y = hy + dy;
+                    if (x < 0 || x >= width || y < 0 || y >= height) {
+                        continue;
+                    }
+                    Workplace workplace = workAt[y * width + x];
+                    if (workplace != null) {
+                        home.candidates[count] = workplace;
+                        home.cost[count] = radius;
+                        home.flow[count] = 0;
+                        count++;
+                    }
+                }
+            }
+        }
+        home.candidateCount = count;
+
+        // Carry over flow on edges that still exist; release the rest
+        for (int old = 0; old < oldCandidates.length; old++) {
+            Workplace workplace = oldCandidates[old];
+            if (workplace == null || oldFlow[old] == 0) {
+                continue;
+            }
+
+            boolean kept = false;
+            for (int k = 0; k < count; k++) {
+                if (home.candidates[k] == workplace) {
+                    home.flow[k] = oldFlow[old];
+                    kept = true;
+                    break;
+                }
+            }
+            if (!kept && workAt[workplace.cell] == workplace) {
+                save(workplace);
+                workplace.assigned -= oldFlow[old];
+            }
+        }
+
+        home.dirty = false;
+    }
+
+    /**
+     * Trims warm-start flows that exceed a home's supply or a workplace's capacity.
+     */
+    private void reconcile() {
+        for (Home home : homes) {
+            int excess = home.totalFlow() - home.supply;
+
+            // Drop the longest commutes first
+            for (int k = home.candidateCount - 1; k >= 0 && excess > 0; k--) {
+                int cut = Math.min(excess, home.flow[k]);
+                shift(home, k, -cut);
+                excess -= cut;
+            }
+        }
+
+        boolean overCapacity = false;
+        for (Workplace workplace : workplaces) {
+            if (workplace.assigned > workplace.capacity) {
+                overCapacity = true;
+                break;
+            }
+        }
+        if (!overCapacity) {
+            return;
+        }
+
+        for (Home home : homes) {
+            for (int k = home.candidateCount - 1; k >= 0; k--) {
+                Workplace workplace = home.candidates[k];
+                int over = workplace.assigned - workplace.capacity;
+                if (over > 0 && home.flow[k] > 0) {
+                    int cut = Math.min(over, home.flow[k]);
+                    shift(home, k, -cut);
+                }
+            }
+        }
+    }
+
+    /**
+     * Routes unassigned supply to free job slots along shortest augmenting paths.
+     * Paths may move existing workers between workplaces when that frees a
+     * closer slot for someone else.
+     *
+     * @return The number of augmentations performed
+     */
+    private int augment() {
+        int homeCount = homes.size();
+        int workCount = workplaces.size();
+        if (homeCount == 0 || workCount == 0) {
+            return 0;
+        }
+
+        int[] excess = new int[homeCount];
+        boolean anyExcess = false;
+        for (int i = 0; i < homeCount; i++) {
+            Home home = homes.get(i);
+            home.index = i;
+            excess[i] = home.supply - home.totalFlow();
+            anyExcess |= excess[i] > 0;
+        }
+
+        int[] spare = new int[workCount];
+        boolean anySpare = false;
+        for (int j = 0; j < workCount; j++) {
+            Workplace workplace = workplaces.get(j);
+            workplace.index = j;
+            spare[j] = workplace.capacity - workplace.assigned;
+            anySpare |= spare[j] > 0;
+        }
+
+        if (!anyExcess || !anySpare) {
+            return 0;
+        }
+
+        // Reverse adjacency: for each workplace, the (home, edge) pairs pointing at it
+        int[] reverseStart = new int[workCount + 1];
+        for (Home home : homes) {
+            for (int k = 0; k < home.candidateCount; k++) {
+                reverseStart[home.candidates[k].index + 1]++;
+            }
+        }
+        for (int j = 0; j < workCount; j++) {
+            reverseStart[j + 1] += reverseStart[j];
+        }
+        int[] reverseHome = new int[reverseStart[workCount]];
+        int[] reverseEdge = new int[reverseStart[workCount]];
+        int[] fill = Arrays.copyOf(reverseStart, workCount);
+        for (Home home : homes) {
+            for (int k = 0; k < home.candidateCount; k++) {
+                int slot = fill[home.candidates[k].index]++;
+                reverseHome[slot] = home.index;
+                reverseEdge[slot] = k;
+            }
+        }
+
+        int nodes = homeCount + workCount;
+        int[] dist = new int[nodes];
+        int[] parent = new int[nodes];
+        int[] parentEdge = new int[nodes];
+        int[] relaxations = new int[nodes];
+        boolean[] queued = new boolean[nodes];
+        int[] queue = new int[nodes];
+
+        int augmentations = 0;
+        int cancelled = 0;
+        int limit = 4 * nodes;
+
+        while (augmentations + cancelled < limit) {
+            Arrays.fill(dist, INFINITY);
+            Arrays.fill(parent, -1);
+            Arrays.fill(relaxations, 0);
+
+            // Circular queue for the label-correcting shortest path search
+            int head = 0;
+            int tail = 0;
+            int queuedCount = 0;
+            for (int i = 0; i < homeCount; i++) {
+                if (excess[i] > 0) {
+                    dist[i] = 0;
+                    queue[tail] = i;
+                    tail = (tail + 1) % nodes;
+                    queued[i] = true;
+                    queuedCount++;
+                }
+            }
+
+            int cycle = -1;
+            while (queuedCount > 0 && cycle < 0) {
+                int u = queue[head];
+                head = (head + 1) % nodes;
+                queued[u] = false;
+                queuedCount--;
+
+                if (u < homeCount) {
+                    // Forward edges: home -> workplace
+                    Home home = homes.get(u);
+                    for (int k = 0; k < home.candidateCount; k++) {
+                        int v = homeCount + home.candidates[k].index;
+                        int candidate = dist[u] + home.cost[k];
+                        if (candidate < dist[v]) {
+                            dist[v] = candidate;
+                            parent[v] = u;
+                            parentEdge[v] = k;
+                            if (++relaxations[v] > nodes) {
+                                cycle = v;
+                                break;
+                            }
+                            if (!queued[v]) {
+                                queue[tail] = v;
+                                tail = (tail + 1) % nodes;
+                                queued[v] = true;
+                                queuedCount++;
+                            }
+                        }
+                    }
+                } else {
+                    // Backward edges: workplace -> home, moving an existing worker elsewhere
+                    int j = u - homeCount;
+                    for (int slot = reverseStart[j]; slot < reverseStart[j + 1]; slot++) {
+                        int i = reverseHome[slot];
+                        int k = reverseEdge[slot];
+                        Home home = homes.get(i);
+                        if (home.flow[k] <= 0) {
+                            continue;
+                        }
+                        int candidate = dist[u] - home.cost[k];
+                        if (candidate < dist[i]) {
+                            dist[i] = candidate;
+                            parent[i] = u;
+                            parentEdge[i] = k;
+                            if (++relaxations[i] > nodes) {
+                                cycle = i;
+                                break;
+                            }
+                            if (!queued[i]) {
+                                queue[tail] = i;
+                                tail = (tail + 1) % nodes;
+                                queued[i] = true;
+                                queuedCount++;
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (cycle >= 0) {
+                // Warm-start flows can leave negative cycles; reroute around one and search again
+                if (!cancelCycle(cycle, parent, parentEdge, homeCount)) {
+                    LOGGER.warning("Job assignment found a negative cycle it could not cancel");
+                    break;
+                }
+                cancelled++;
+                continue;
+            }
+
+            // Cheapest reachable workplace with a free slot
+            int target = -1;
+            for (int j = 0; j < workCount; j++) {
+                int v = homeCount + j;
+                if (spare[j] > 0 && dist[v] < INFINITY && (target < 0 || dist[v] < dist[target])) {
+                    target = v;
+                }
+            }
+            if (target < 0) {
+                break;
+            }
+
+            // Walk back to the originating home to find the bottleneck
+            int bottleneck = spare[target - homeCount];
+            int node = target;
+            int origin = -1;
+            while (node >= 0) {
+                int from = parent[node];
+                if (from < 0) {
+                    origin = node;
+                    break;
+                }
+                if (node < homeCount) {
+                    // Backward edge into this home: limited by the flow being moved
+                    bottleneck = Math.min(bottleneck, homes.get(node).flow[parentEdge[node]]);
+                }
+                node = from;
+            }
+            bottleneck = Math.min(bottleneck, excess[origin]);
+            if (bottleneck <= 0) {
+                break;
+            }
+
+            // Apply the augmentation
+            node = target;
+            while (parent[node] >= 0) {
+                int from = parent[node];
+                if (node >= homeCount) {
+                    shift(homes.get(from), parentEdge[node], bottleneck);
+                } else {
+                    shift(homes.get(node), parentEdge[node], -bottleneck);
+                }
+                node = from;
+            }
+            excess[origin] -= bottleneck;
+            spare[target - homeCount] -= bottleneck;
+            augmentations++;
+        }
+
+        if (cancelled > 0) {
+            LOGGER.fine("Job assignment cancelled " + cancelled + " negative cycles");
+        }
+        return augmentations;
+    }
+
+    /**
+     * Pushes flow around a negative-cost cycle in the shortest path tree.
+     * Every home on the cycle moves workers from one workplace to another
+     * and every workplace gains as many as it loses, so supplies and
+     * staffing totals are unchanged while total commute drops.
+     *
+     * @param start The node whose relaxation count exposed the cycle
+     * @return true if a cycle was found and cancelled
+     */
+    private boolean cancelCycle(int start, int[] parent, int[] parentEdge, int homeCount) {
+        // Walking back as many steps as there are nodes is certain to land on the cycle
+        int node = start;
+        for (int step = 0; step < parent.length && node >= 0; step++) {
+            node = parent[node];
+        }
+        if (node < 0) {
+            return false;
+        }
+
+        // Backward edges carry the only finite capacities on the cycle
+        int bottleneck = INFINITY;
+        int current = node;
+        do {
+            if (current < homeCount) {
+                bottleneck = Math.min(bottleneck, homes.get(current).flow[parentEdge[current]]);
+            }
+            current = parent[current];
+        } while (current != node && current >= 0);
+        if (current < 0 || bottleneck <= 0 || bottleneck == INFINITY) {
+            return false;
+        }
+
+        current = node;
+        do {
+            int from = parent[current];
+            if (current >= homeCount) {
+                shift(homes.get(from), parentEdge[current], bottleneck);
+            } else {
+                shift(homes.get(current), parentEdge[current], -bottleneck);
+            }
+            current = from;
+        } while (current != node);
+        return true;
+    }
+
+    /**
+     * Maps home-to-workplace flows onto individual colonists in linear time.
+     * Colonists keep their current job when the flow still covers it; free
+     * slots go to skilled colonists first.
+     */
+    private void assignColonists(ColonistPool pool, int workingAge) {
+        for (Home home : homes) {
+            home.quota = Arrays.copyOf(home.flow, home.candidateCount);
+        }
+        for (Workplace workplace : workplaces) {
+            workplace.staffed = 0;
+            workplace.skillSum = 0f;
+        }
+
+        int[] homeCell = pool.homeCell;
+        int[] job = pool.job;
+        float[] skill = pool.skill;
+        int size = pool.size();
+        int employed = 0;
+
+        // Keep existing jobs that the new flows still allow
+        for (int i = 0; i < size; i++) {
+            int home = homeCell[i];
+            if (home < 0 || pool.getAge(i) < workingAge || homeAt[home] == null) {
+                pool.setJob(i, ColonistPool.UNEMPLOYED);
+                continue;
+            }
+            if (job[i] == ColonistPool.UNEMPLOYED) {
+                continue;
+            }
+
+            Home h = homeAt[home];
+            int k = h.indexOf(job[i]);
+            if (k >= 0 && h.quota[k] > 0) {
+                h.quota[k]--;
+                h.candidates[k].staffed++;
+                h.candidates[k].skillSum += skill[i];
+                employed++;
+            } else {
+                pool.setJob(i, ColonistPool.UNEMPLOYED);
+            }
+        }
+
+        // Fill remaining slots, skilled colonists first
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < size; i++) {
+                int home = homeCell[i];
+                if (job[i] != ColonistPool.UNEMPLOYED || home < 0 || pool.getAge(i) < workingAge || homeAt[home] == null) {
+                    continue;
+                }
+                if (pass == 0 && skill[i] < SKILLED_THRESHOLD) {
+                    continue;
+                }
+
+                Home h = homeAt[home];
+                for (int k = 0; k < h.candidateCount; k++) {
+                    if (h.quota[k] > 0) {
+                        h.quota[k]--;
+                        pool.setJob(i, h.candidates[k].cell);
+                        h.candidates[k].staffed++;
+                        h.candidates[k].skillSum += skill[i];
+                        employed++;
+                        break;
+                    }
+                }
+            }
+        }
+
+        for (Workplace workplace : workplaces) {
+            float effectiveness = workplace.capacity > 0 ? workplace.skillSum / workplace.capacity : 0f;
+            setWorkforce(workplace.building, workplace.staffed, effectiveness);
+        }
+
+        lastEmployed = employed;
+    }
+
+    /**
+     * Moves flow onto (or, with a negative amount, off) one of a home's edges.
+     */
+    private void shift(Home home, int edge, int amount) {
+        Workplace workplace = home.candidates[edge];
+        save(home);
+        save(workplace);
+        home.flow[edge] += amount;
+        workplace.assigned += amount;
+    }
+
+    /**
+     * Records how to restore a home's edges, flows and supply, the first time
+     * it changes in a solve.
+     */
+    private void save(Home home) {
+        if (changeLog == null || home.saved == stamp) {
+            return;
+        }
+        home.saved = stamp;
+        Workplace[] candidates = home.candidates.clone();
+        int[] cost = home.cost.clone();
+        int[] flow = home.flow.clone();
+        int candidateCount = home.candidateCount;
+        int supply = home.supply;
+        boolean dirty = home.dirty;
+        changeLog.record(() -> {
+            System.arraycopy(candidates, 0, home.candidates, 0, candidates.length);
+            System.arraycopy(cost, 0, home.cost, 0, cost.length);
+            System.arraycopy(flow, 0, home.flow, 0, flow.length);
+            home.candidateCount = candidateCount;
+            home.supply = supply;
+            home.dirty = dirty;
+        });
+    }
+
+    /**
+     * Records how to restore a workplace's capacity and assigned flow, the
+     * first time it changes in a solve.
+     */
+    private void save(Workplace workplace) {
+        if (changeLog == null || workplace.saved == stamp) {
+            return;
+        }
+        workplace.saved = stamp;
+        int capacity = workplace.capacity;
+        int assigned = workplace.assigned;
+        changeLog.record(() -> {
+            workplace.capacity = capacity;
+            workplace.assigned = assigned;
+        });
+    }
+
+    /**
+     * Staffs a workplace, recording the previous staffing in the game's change log.
+     */
+    private void setWorkforce(ProductionBuilding building, int workers, float effectiveness) {
+        int previousWorkers = building.getAssignedWorkers();
+        float previousEffectiveness = building.getWorkforceEffectiveness();
+        if (workers == previousWorkers && effectiveness == previousEffectiveness) {
+            return;
+        }
+
+        if (changeLog != null) {
+            changeLog.record(() -> building.setWorkforce(previousWorkers, previousEffectiveness));
+        }
+        building.setWorkforce(workers, effectiveness);
+    }
+
+    private int distance(int cellA, int cellB) {
+        return HexGrid.distance(cellA % width, cellA / width, cellB % width, cellB / width);
+    }
+
+    public int getLastDirtyHomes() {
+        return lastDirtyHomes;
+    }
+
+    public int getLastAugmentations() {
+        return lastAugmentations;
+    }
+
+    public int getLastEmployed() {
+        return lastEmployed;
+    }
+
+    /**
+     * Supply node: a home cell and its flows to nearby workplaces.
+     */
+    private static class Home {
+        final int cell;
+        final Workplace[] candidates = new Workplace[CANDIDATES_PER_HOME];
+        final int[] cost = new int[CANDIDATES_PER_HOME];
+        final int[] flow = new int[CANDIDATES_PER_HOME];
+        int[] quota;
+        int candidateCount;
+        int supply;
+        int index;
+        int saved; // Stamp of the last solve that recorded this home's state
+        boolean dirty = true;
+
+        Home(int cell) {
+            this.cell = cell;
+        }
+
+        int totalFlow() {
+            int total = 0;
+            for (int k = 0; k < candidateCount; k++) {
+                total += flow[k];
+            }
+            return total;
+        }
+
+        int farthestCost() {
+            return candidateCount == 0 ? Integer.MAX_VALUE : cost[candidateCount - 1];
+        }
+
+        int indexOf(int workplaceCell) {
+            for (int k = 0; k < candidateCount; k++) {
+                if (candidates[k].cell == workplaceCell) {
+                    return k;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Demand node: a production building and its job slots.
+     */
+    private static class Workplace {
+        final int cell;
+        final ProductionBuilding building;
+        int capacity;
+        int assigned;
+        int staffed;
+        float skillSum;
+        int seen;
+        int index;
+        int saved; // Stamp of the last solve that recorded this workplace's state
+
+        Workplace(int cell, ProductionBuilding building) {
+            this.cell = cell;
+            this.building = building;
+            this.capacity = building.getJobSlots();
+        }
+    }
+}
@@ -0,0 +1,491 @@
+package com.colonygenesis.population;
+
+import com.colonygenesis.building.Building;
+import com.colonygenesis.building.HabitationBuilding;
+import com.colonygenesis.core.ChangeLog;
+import com.colonygenesis.core.Game;
+import com.colonygenesis.map.HexGrid;
+import com.colonygenesis.map.Tile;
+import com.colonygenesis.resource.ResourceType;
+import com.colonygenesis.util.LoggerUtils;
+
+import java.util.Arrays;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * Simulates colonists living in habitation buildings.
+ * Colonists are stored in a {@link ColonistPool} and updated once per turn
+ * in a parallel bulk pass; their food and water needs are reported to the
+ * resource ledger as consumption.
+ */
+public class PopulationManager {
+    private static final Logger LOGGER = LoggerUtils.getLogger(PopulationManager.class);
+
+    // Marker written into homeCell during the parallel pass, removed by compaction
+    private static final int DEAD = -2;
+
+    // Tuning
+    private static final int INITIAL_COLONISTS = 20;
+    static final int ADULT_AGE = 60;
+    private static final int LIFESPAN = 600;
+    private static final float FOOD_PER_ADULT = 0.1f;
+    private static final float WATER_PER_ADULT = 0.1f;
+    private static final float CHILD_NEED_FACTOR = 0.5f;
+    private static final float NEED_RECOVERY = 0.5f;
+    private static final float STARVATION_LIMIT = 5.0f;
+    private static final float HOMELESS_COMFORT = 0.1f;
+    private static final float NEED_MORALE_PENALTY = 0.1f;
+    private static final float MORALE_RATE = 0.1f;
+    private static final float GROWTH_RATE = 0.02f;
+    private static final float GROWTH_MORALE = 0.4f;
+    private static final float CREW_SKILL = 0.5f;
+    private static final float NEWBORN_SKILL = 0.2f;
+    private static final float SKILL_GAIN = 0.01f;
+
+    // Work is split into chunks so the bulk pass can run on the common fork-join pool
+    private static final int CHUNK_SIZE = 16_384;
+    private static final int PARALLEL_THRESHOLD = 65_536;
+
+    private final Game game;
+    private final ColonistPool pool;
+    private final JobAssignmentSolver jobSolver;
+
+    // Per-cell housing tables, rebuilt every turn from the habitation buildings
+    private int[] cellCapacity = new int[0];
+    private float[] cellComfort = new float[0];
+    private int[] cellOccupancy = new int[0];
+    private int totalCapacity;
+
+    // Unmet fraction of last turn's needs, set by the resource ledger on shortage
+    private float foodShortfall;
+    private float waterShortfall;
+
+    // Results of the last update
+    private int foodDemand;
+    private int waterDemand;
+    private float averageMorale;
+    private int lastBirths;
+    private int lastDeaths;
+
+    public PopulationManager(Game game) {
+        this.game = game;
+        this.pool = new ColonistPool();
+        this.jobSolver = new JobAssignmentSolver(game);
+
+        // The colony ship arrives with a small crew that still needs housing;
+        // ages are spread over the adult years so the crew does not die out at once
+        int crewAgeSpan = LIFESPAN / 2 - ADULT_AGE;
+        for (int i = 0; i < INITIAL_COLONISTS; i++) {
+            int crewAge = ADULT_AGE + i * crewAgeSpan / INITIAL_COLONISTS;
+            pool.add(ColonistPool.HOMELESS, crewAge, 0.5f, CREW_SKILL);
+        }
+        recalculateDemand();
+
+        LOGGER.info("PopulationManager initialized with " + INITIAL_COLONISTS + " colonists");
+    }
+
+    /**
+     * Advances every colonist by one turn: ageing, needs, morale, deaths,
+     * housing, growth and job assignment.
+     */
+    public void processTurn() {
+        long start = System.nanoTime();
+        ColonistPool.Checkpoint checkpoint = recordUndo();
+
+        try {
+            rebuildHousing();
+            int deaths = updateColonists();
+            compactAndRehouse();
+            int births = grow(deaths);
+            jobSolver.solve(pool, ADULT_AGE);
+
+            lastDeaths = deaths;
+            lastBirths = births;
+        } finally {
+            if (checkpoint != null) {
+                checkpoint.close();
+                LOGGER.fine("Saved " + checkpoint.getSavedBlocks() + " colonist blocks for undo");
+            }
+        }
+
+        LOGGER.fine(String.format("Population turn: %d colonists, +%d/-%d, morale %.2f, food %d, water %d (%.2f ms)",
+                pool.size(), lastBirths, lastDeaths, averageMorale, foodDemand, waterDemand,
+                (System.nanoTime() - start) / 1_000_000.0));
+    }
+
+    /**
+     * Records how to put the colonists back as they are before this turn's
+     * update. The pool checkpoint copies only the blocks of colonists the
+     * update writes to; ageing is a clock tick and writes none. The job
+     * solver records its own changes. Shortages applied later in the turn
+     * are undone by the same entry.
+     *
+     * @return The open pool checkpoint, or null if changes are not recorded
+     */
+    private ColonistPool.Checkpoint recordUndo() {
+        ChangeLog changeLog = game.getChangeLog();
+        if (!changeLog.isRecording()) {
+            return null;
+        }
+
+        ColonistPool.Checkpoint checkpoint = pool.checkpoint();
+        float savedFoodShortfall = foodShortfall;
+        float savedWaterShortfall = waterShortfall;
+        int savedFoodDemand = foodDemand;
+        int savedWaterDemand = waterDemand;
+        float savedMorale = averageMorale;
+        int savedCapacity = totalCapacity;
+        int savedBirths = lastBirths;
+        int savedDeaths = lastDeaths;
+
+        changeLog.record(() -> {
+            checkpoint.restore();
+            foodShortfall = savedFoodShortfall;
+            waterShortfall = savedWaterShortfall;
+            foodDemand = savedFoodDemand;
+            waterDemand = savedWaterDemand;
+            averageMorale = savedMorale;
+            totalCapacity = savedCapacity;
+            lastBirths = savedBirths;
+            lastDeaths = savedDeaths;
+        });
+        return checkpoint;
+    }
+
+    /**
+     * Rebuilds the per-cell capacity and comfort tables from habitation buildings.
+     */
+    private void rebuildHousing() {
+        HexGrid grid = game.getPlanet().getGrid();
+        int cells = grid.getWidth() * grid.getHeight();
+
+        if (cellCapacity.length != cells) {
+            cellCapacity = new int[cells];
+            cellComfort = new float[cells];
+            cellOccupancy = new int[cells];
+        } else {
+            Arrays.fill(cellCapacity, 0);
+            Arrays.fill(cellComfort, 0f);
+        }
+
+        totalCapacity = 0;
+        if (game.getBuildingManager() == null) {
+            return;
+        }
+
+        for (Building building : game.getBuildingManager().getBuildings()) {
+            if (building instanceof HabitationBuilding && building.getLocation() != null) {
+                HabitationBuilding habitation = (HabitationBuilding) building;
+                int capacity = habitation.getPopulationCapacity();
+                if (capacity <= 0) {
+                    continue;
+                }
+
+                int cell = cellIndex(building.getLocation());
+                cellCapacity[cell] += capacity;
+                cellComfort[cell] = habitation.getComfortModifier();
+                totalCapacity += capacity;
+            }
+        }
+    }
+
+    /**
+     * Runs the bulk per-colonist update, in parallel for large populations.
+     *
+     * @return The number of colonists that died this turn
+     */
+    private int updateColonists() {
+        int size = pool.size();
+        int chunks = Math.max(1, (size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+
+        // Per-chunk partial sums, reduced in chunk order so results do not depend on scheduling
+        double[] food = new double[chunks];
+        double[] water = new double[chunks];
+        double[] moraleSum = new double[chunks];
+        int[] deaths = new int[chunks];
+
+        float foodMiss = foodShortfall;
+        float waterMiss = waterShortfall;
+        pool.advanceClock();
+
+        IntStream range = IntStream.range(0, chunks);
+        if (size >= PARALLEL_THRESHOLD) {
+            range = range.parallel();
+        }
+        range.forEach(chunk -> {
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(size, from + CHUNK_SIZE);
+            updateChunk(from, to, chunk, foodMiss, waterMiss, food, water, moraleSum, deaths);
+        });
+
+        double totalFood = 0;
+        double totalWater = 0;
+        double totalMorale = 0;
+        int totalDeaths = 0;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            totalFood += food[chunk];
+            totalWater += water[chunk];
+            totalMorale += moraleSum[chunk];
+            totalDeaths += deaths[chunk];
+        }
+
+        // Shortfalls have been applied; the ledger reports new ones after this turn's production
+        foodShortfall = 0f;
+        waterShortfall = 0f;
+
+        foodDemand = (int) Math.ceil(totalFood);
+        waterDemand = (int) Math.ceil(totalWater);
+        int alive = size - totalDeaths;
+        averageMorale = alive > 0 ? (float) (totalMorale / alive) : 0f;
+
+        return totalDeaths;
+    }
+
+    private void updateChunk(int from, int to, int chunk, float foodMiss, float waterMiss,
+                             double[] food, double[] water, double[] moraleSum, int[] deaths) {
+        int[] homeCell = pool.homeCell;
+        float[] morale = pool.morale;
+        float[] hunger = pool.hunger;
+        float[] thirst = pool.thirst;
+        int[] job = pool.job;
+        float[] skill = pool.skill;
+
+        double chunkFood = 0;
+        double chunkWater = 0;
+        double chunkMorale = 0;
+        int chunkDeaths = 0;
+
+        for (int i = from; i < to; i++) {
+            int colonistAge = pool.getAge(i);
+            float needFactor = colonistAge < ADULT_AGE ? CHILD_NEED_FACTOR : 1f;
+
+            // Unmet needs accumulate during shortages and recover otherwise
+            float h = foodMiss > 0 ? hunger[i] + foodMiss * needFactor : Math.max(0f, hunger[i] - NEED_RECOVERY);
+            float t = waterMiss > 0 ? thirst[i] + waterMiss * needFactor : Math.max(0f, thirst[i] - NEED_RECOVERY);
+
+            if (colonistAge > LIFESPAN || h > STARVATION_LIMIT || t > STARVATION_LIMIT) {
+                pool.touch(i);
+                homeCell[i] = DEAD;
+                chunkDeaths++;
+                continue;
+            }
+
+            // Morale drifts towards the comfort of the colonist's home, minus unmet needs
+            int home = homeCell[i];
+            float comfort = home >= 0 && cellCapacity[home] > 0 ? cellComfort[home] : HOMELESS_COMFORT;
+            float target = Math.max(0f, Math.min(1f, comfort - NEED_MORALE_PENALTY * (h + t)));
+            float m = morale[i] + (target - morale[i]) * MORALE_RATE;
+
+            // Experience accumulates on the job
+            float s = job[i] != ColonistPool.UNEMPLOYED ? Math.min(1f, skill[i] + SKILL_GAIN) : skill[i];
+
+            // Settled colonists stop changing, and unchanged slots are not saved for undo
+            if (h != hunger[i] || t != thirst[i] || m != morale[i] || s != skill[i]) {
+                pool.touch(i);
+                hunger[i] = h;
+                thirst[i] = t;
+                morale[i] = m;
+                skill[i] = s;
+            }
+
+            chunkMorale += m;
+            chunkFood += FOOD_PER_ADULT * needFactor;
+            chunkWater += WATER_PER_ADULT * needFactor;
+        }
+
+        food[chunk] = chunkFood;
+        water[chunk] = chunkWater;
+        moraleSum[chunk] = chunkMorale;
+        deaths[chunk] = chunkDeaths;
+    }
+
+    /**
+     * Removes dead colonists, evicts colonists from over-full or demolished
+     * homes, and moves homeless colonists into free housing. A dead
+     * colonist's slot is filled from the end of the pool, so only slots that
+     * change are written.
+     */
+    private void compactAndRehouse() {
+        Arrays.fill(cellOccupancy, 0);
+
+        int[] homeCell = pool.homeCell;
+        int size = pool.size();
+        int i = 0;
+
+        while (i < size) {
+            if (homeCell[i] == DEAD) {
+                size--;
+                if (i != size) {
+                    pool.move(size, i);
+                }
+                continue;
+            }
+
+            int home = homeCell[i];
+            if (home >= 0) {
+                if (cellOccupancy[home] < cellCapacity[home]) {
+                    cellOccupancy[home]++;
+                } else {
+                    pool.setHomeCell(i, ColonistPool.HOMELESS);
+                }
+            }
+            i++;
+        }
+        pool.truncate(size);
+
+        int cursor = 0;
+        for (i = 0; i < size; i++) {
+            if (homeCell[i] != ColonistPool.HOMELESS) {
+                continue;
+            }
+            cursor = nextFreeCell(cursor);
+            if (cursor < 0) {
+                break;
+            }
+            pool.setHomeCell(i, cursor);
+            cellOccupancy[cursor]++;
+        }
+    }
+
+    /**
+     * Adds newborn colonists when the colony is fed and content. Births fill
+     * free housing and also replace the colonists who died this turn, so a
+     * colony without spare housing still renews itself; newborns without a
+     * free home start out homeless.
+     *
+     * @param deaths The number of colonists who died this turn
+     * @return The number of colonists born this turn
+     */
+    private int grow(int deaths) {
+        int population = pool.size();
+        int free = totalCapacity - housedCount();
+        int room = Math.max(free, deaths);
+
+        if (population < 2 || room <= 0 || averageMorale < GROWTH_MORALE) {
+            return 0;
+        }
+
+        int births = Math.min(room, Math.max(1, Math.round(population * GROWTH_RATE)));
+        pool.ensureCapacity(population + births);
+
+        int cursor = 0;
+        for (int born = 0; born < births; born++) {
+            cursor = cursor < 0 ? -1 : nextFreeCell(cursor);
+            if (cursor < 0) {
+                pool.add(ColonistPool.HOMELESS, 0, averageMorale, NEWBORN_SKILL);
+            } else {
+                pool.add(cursor, 0, averageMorale, NEWBORN_SKILL);
+                cellOccupancy[cursor]++;
+            }
+        }
+
+        recalculateDemand();
+        return births;
+    }
+
+    private int nextFreeCell(int from) {
+        for (int cell = Math.max(from, 0); cell < cellCapacity.length; cell++) {
+            if (cellOccupancy[cell] < cellCapacity[cell]) {
+                return cell;
+            }
+        }
+        return -1;
+    }
+
+    private int housedCount() {
+        int housed = 0;
+        for (int occupancy : cellOccupancy) {
+            housed += occupancy;
+        }
+        return housed;
+    }
+
+    /**
+     * Recomputes food and water demand without advancing colonists.
+     */
+    private void recalculateDemand() {
+        double food = 0;
+        double water = 0;
+        for (int i = 0; i < pool.size(); i++) {
+            float needFactor = pool.getAge(i) < ADULT_AGE ? CHILD_NEED_FACTOR : 1f;
+            food += FOOD_PER_ADULT * needFactor;
+            water += WATER_PER_ADULT * needFactor;
+        }
+        foodDemand = (int) Math.ceil(food);
+        waterDemand = (int) Math.ceil(water);
+    }
+
+    /**
+     * Records a shortage reported by the resource ledger. The unmet share of
+     * demand is applied to every colonist's needs on the next update.
+     *
+     * @param type The resource that ran short
+     * @param shortageAmount The amount that could not be supplied
+     */
+    public void applyShortage(ResourceType type, int shortageAmount) {
+        int demand = getDemand(type);
+        if (demand <= 0) {
+            return;
+        }
+
+        float fraction = Math.min(1f, (float) shortageAmount / demand);
+        if (type == ResourceType.FOOD) {
+            foodShortfall = fraction;
+        } else if (type == ResourceType.WATER) {
+            waterShortfall = fraction;
+        }
+
+        LOGGER.warning(String.format("Colonists short of %s: %.0f%% of demand unmet",
+                type.getName(), fraction * 100));
+    }
+
+    /**
+     * Gets the per-turn consumption of a resource by colonists.
+     *
+     * @param type The resource type
+     * @return The amount consumed per turn
+     */
+    public int getDemand(ResourceType type) {
+        switch (type) {
+            case FOOD:
+                return foodDemand;
+            case WATER:
+                return waterDemand;
+            default:
+                return 0;
+        }
+    }
+
+    private int cellIndex(Tile tile) {
+        return tile.getY() * game.getPlanet().getGrid().getWidth() + tile.getX();
+    }
+
+    public JobAssignmentSolver getJobSolver() {
+        return jobSolver;
+    }
+
+    public ColonistPool getPool() {
+        return pool;
+    }
+
+    public int getPopulation() {
+        return pool.size();
+    }
+
+    public int getHousingCapacity() {
+        return totalCapacity;
+    }
+
+    public float getAverageMorale() {
+        return averageMorale;
+    }
+
+    public int getLastBirths() {
+        return lastBirths;
+    }
+
+    public int getLastDeaths() {
+        return lastDeaths;
+    }
+}
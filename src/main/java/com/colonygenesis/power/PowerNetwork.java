@@ -0,0 +1,381 @@
+package com.colonygenesis.power;
+
+import com.colonygenesis.building.Building;
+import com.colonygenesis.core.Game;
+import com.colonygenesis.map.HexGrid;
+import com.colonygenesis.map.Tile;
+import com.colonygenesis.resource.ResourceType;
+import com.colonygenesis.util.LoggerUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Tracks which buildings share a power grid.
+ *
+ * <p>Every placed building is a node; buildings on neighbouring tiles are
+ * connected, so power conduits extend a grid across empty ground. Grids are
+ * kept in a union-find over grid cells: placement unions the new node with
+ * its neighbours in amortized O(α(n)), while removal only marks the structure
+ * dirty and the next query rebuilds it once.</p>
+ *
+ * <p>Energy cannot flow between grids, so balance is computed per grid and a
+ * deficit only sheds load inside the grid that caused it.</p>
+ */
+public class PowerNetwork {
+    private static final Logger LOGGER = LoggerUtils.getLogger(PowerNetwork.class);
+
+    private static final int NO_NODE = -1;
+
+    // Half of the hex directions used by HexGrid.getNeighbors; the other half
+    // are their negations, so each edge is visited once during a rebuild
+    private static final int[][] FORWARD_DIRECTIONS = {{1, 0}, {1, -1}, {0, 1}};
+    private static final int[][] ALL_DIRECTIONS = {
+            {1, 0}, {1, -1}, {0, -1},
+            {-1, 0}, {-1, 1}, {0, 1}
+    };
+
+    private final Game game;
+
+    private int width;
+    private int height;
+    private Building[] nodeAt = new Building[0]; // Indexed by grid cell
+    private int[] parent = new int[0];
+    private byte[] rank = new byte[0];
+    private int nodeCount;
+    private int gridCount;
+    private boolean dirty;
+
+    // Scratch space for balancing, indexed by root cell
+    private int[] gridSlot = new int[0];
+
+    public PowerNetwork(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Adds a placed building to the network and merges it with neighbouring grids.
+     *
+     * @param building The building that was placed
+     */
+    public void connect(Building building) {
+        Tile tile = building.getLocation();
+        if (tile == null) {
+            return;
+        }
+
+        ensureGrid();
+        int cell = cellOf(tile.getX(), tile.getY());
+        if (nodeAt[cell] != null) {
+            disconnectCell(cell);
+        }
+
+        nodeAt[cell] = building;
+        nodeCount++;
+
+        if (dirty) {
+            // The next query rebuilds everything anyway
+            return;
+        }
+
+        parent[cell] = cell;
+        rank[cell] = 0;
+        gridCount++;
+
+        for (int[] direction : ALL_DIRECTIONS) {
+            int neighbour = neighbourCell(tile.getX(), tile.getY(), direction);
+            if (neighbour != NO_NODE && nodeAt[neighbour] != null) {
+                union(cell, neighbour);
+            }
+        }
+    }
+
+    /**
+     * Removes a building from the network. Grids are split lazily on the next query.
+     *
+     * @param building The building being removed
+     * @param tile The tile it was on
+     */
+    public void disconnect(Building building, Tile tile) {
+        if (tile == null) {
+            return;
+        }
+
+        ensureGrid();
+        int cell = cellOf(tile.getX(), tile.getY());
+        if (nodeAt[cell] == building) {
+            disconnectCell(cell);
+        }
+    }
+
+    private void disconnectCell(int cell) {
+        nodeAt[cell] = null;
+        parent[cell] = NO_NODE;
+        nodeCount--;
+        dirty = true;
+    }
+
+    /**
+     * Computes the energy balance of every grid and picks the load to shed in
+     * grids that run a deficit. The most recently placed consumers are shed
+     * first, until the grid's balance is no longer negative.
+     *
+     * @param buildings All buildings in registry order
+     * @return The shortages found, one per grid in deficit
+     */
+    public List<GridShortage> balance(List<Building> buildings) {
+        ensureGrid();
+        rebuildIfDirty();
+
+        // Sum energy per grid; gridSlot maps a root cell to its index in the lists below
+        List<Integer> roots = new ArrayList<>();
+        List<int[]> balances = new ArrayList<>();
+        int[] energy = new int[buildings.size()];
+
+        for (int i = 0; i < buildings.size(); i++) {
+            Building building = buildings.get(i);
+            int root = rootOf(building);
+            if (root == NO_NODE || !building.isActive()) {
+                continue;
+            }
+
+            energy[i] = building.getProduction().getOrDefault(ResourceType.ENERGY, 0);
+            if (energy[i] == 0) {
+                continue;
+            }
+
+            if (gridSlot[root] == 0) {
+                roots.add(root);
+                balances.add(new int[1]);
+                gridSlot[root] = roots.size();
+            }
+            balances.get(gridSlot[root] - 1)[0] += energy[i];
+        }
+
+        List<GridShortage> shortages = new ArrayList<>();
+        List<List<Building>> shed = new ArrayList<>();
+        int[] deficits = new int[roots.size()];
+        boolean anyDeficit = false;
+
+        for (int k = 0; k < roots.size(); k++) {
+            deficits[k] = Math.max(0, -balances.get(k)[0]);
+            anyDeficit |= deficits[k] > 0;
+            shed.add(deficits[k] > 0 ? new ArrayList<>() : Collections.emptyList());
+        }
+
+        if (anyDeficit) {
+            // Walk backwards so the newest consumers go dark first
+            for (int i = buildings.size() - 1; i >= 0; i--) {
+                if (energy[i] >= 0) {
+                    continue;
+                }
+                Building building = buildings.get(i);
+                int slot = gridSlot[rootOf(building)] - 1;
+                int[] balance = balances.get(slot);
+                if (balance[0] < 0) {
+                    shed.get(slot).add(building);
+                    balance[0] -= energy[i];
+                }
+            }
+
+            for (int k = 0; k < roots.size(); k++) {
+                if (deficits[k] > 0) {
+                    shortages.add(new GridShortage(roots.get(k), deficits[k], shed.get(k)));
+                    LOGGER.fine("Grid " + roots.get(k) + " short " + deficits[k] + " energy, shedding " +
+                            shed.get(k).size() + " buildings");
+                }
+            }
+        }
+
+        for (int root : roots) {
+            gridSlot[root] = 0;
+        }
+
+        return shortages;
+    }
+
+    /**
+     * Gets an identifier for the grid containing a tile's building.
+     * Identifiers are only stable until the network changes.
+     *
+     * @param tile The tile to look up
+     * @return The grid identifier, or -1 if the tile has no building
+     */
+    public int getGridId(Tile tile) {
+        if (tile == null) {
+            return NO_NODE;
+        }
+
+        ensureGrid();
+        rebuildIfDirty();
+        int cell = cellOf(tile.getX(), tile.getY());
+        return nodeAt[cell] != null ? find(cell) : NO_NODE;
+    }
+
+    /**
+     * Checks if the buildings on two tiles share a power grid.
+     *
+     * @param a The first tile
+     * @param b The second tile
+     * @return true if both tiles have buildings on the same grid, false otherwise
+     */
+    public boolean isConnected(Tile a, Tile b) {
+        int gridA = getGridId(a);
+        return gridA != NO_NODE && gridA == getGridId(b);
+    }
+
+    /**
+     * Gets the number of separate power grids.
+     *
+     * @return The grid count
+     */
+    public int getGridCount() {
+        ensureGrid();
+        rebuildIfDirty();
+        return gridCount;
+    }
+
+    /**
+     * Gets the number of buildings in the network.
+     *
+     * @return The node count
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    private int rootOf(Building building) {
+        Tile tile = building.getLocation();
+        if (tile == null) {
+            return NO_NODE;
+        }
+        int cell = cellOf(tile.getX(), tile.getY());
+        return nodeAt[cell] == building ? find(cell) : NO_NODE;
+    }
+
+    private int find(int cell) {
+        // Path halving keeps trees shallow without recursion
+        while (parent[cell] != cell) {
+            parent[cell] = parent[parent[cell]];
+            cell = parent[cell];
+        }
+        return cell;
+    }
+
+    private void union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return;
+        }
+
+        if (rank[rootA] < rank[rootB]) {
+            parent[rootA] = rootB;
+        } else if (rank[rootA] > rank[rootB]) {
+            parent[rootB] = rootA;
+        } else {
+            parent[rootB] = rootA;
+            rank[rootA]++;
+        }
+        gridCount--;
+    }
+
+    /**
+     * Rebuilds the union-find after removals, which union-find cannot undo.
+     */
+    private void rebuildIfDirty() {
+        if (!dirty) {
+            return;
+        }
+
+        gridCount = 0;
+        for (int cell = 0; cell < nodeAt.length; cell++) {
+            if (nodeAt[cell] != null) {
+                parent[cell] = cell;
+                rank[cell] = 0;
+                gridCount++;
+            } else {
+                parent[cell] = NO_NODE;
+            }
+        }
+
+        for (int cell = 0; cell < nodeAt.length; cell++) {
+            if (nodeAt[cell] == null) {
+                continue;
+            }
+            int x = cell % width;
+            int y = cell / width;
+            for (int[] direction : FORWARD_DIRECTIONS) {
+                int neighbour = neighbourCell(x, y, direction);
+                if (neighbour != NO_NODE && nodeAt[neighbour] != null) {
+                    union(cell, neighbour);
+                }
+            }
+        }
+
+        dirty = false;
+        LOGGER.fine("Power network rebuilt: " + nodeCount + " buildings in " + gridCount + " grids");
+    }
+
+    private void ensureGrid() {
+        HexGrid grid = game.getPlanet().getGrid();
+        if (grid.getWidth() == width && grid.getHeight() == height) {
+            return;
+        }
+
+        width = grid.getWidth();
+        height = grid.getHeight();
+        int cells = width * height;
+        nodeAt = new Building[cells];
+        parent = new int[cells];
+        rank = new byte[cells];
+        gridSlot = new int[cells];
+        Arrays.fill(parent, NO_NODE);
+        nodeCount = 0;
+        gridCount = 0;
+        dirty = false;
+    }
+
+    private int cellOf(int x, int y) {
+        return y * width + x;
+    }
+
+    private int neighbourCell(int x, int y, int[] direction) {
+        int nx = x + direction[0];
+        int ny = y + direction[1];
+        if (nx < 0 || nx >= width || ny < 0 || ny >= height) {
+            return NO_NODE;
+        }
+        return cellOf(nx, ny);
+    }
+
+    /**
+     * An energy deficit in one grid and the buildings shed to cover it.
+     */
+    public static class GridShortage {
+        private final int gridId;
+        private final int deficit;
+        private final List<Building> shedLoad;
+
+        GridShortage(int gridId, int deficit, List<Building> shedLoad) {
+            this.gridId = gridId;
+            this.deficit = deficit;
+            this.shedLoad = Collections.unmodifiableList(shedLoad);
+        }
+
+        public int getGridId() {
+            return gridId;
+        }
+
+        public int getDeficit() {
+            return deficit;
+        }
+
+        public List<Building> getShedLoad() {
+            return shedLoad;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.colonygenesis.resource;
 
 import com.colonygenesis.building.Building;
+import com.colonygenesis.core.ChangeLog;
 import com.colonygenesis.core.Game;
+import com.colonygenesis.core.StateHash;
 import com.colonygenesis.event.EventBus;
-import com.colonygenesis.event.GameEvent;
-import com.colonygenesis.event.events.BuildingEvent;
 import com.colonygenesis.event.events.ResourceEvent;
+import com.colonygenesis.event.events.ResourceShortageEvent;
+import com.colonygenesis.population.PopulationManager;
+import com.colonygenesis.power.PowerNetwork;
 import com.colonygenesis.util.LoggerUtils;
 import com.colonygenesis.util.Result;
 
@@ -17,6 +20,8 @@ public class ResourceManager {
 
     private final Game game;
     private final EventBus eventBus;
+    private final StateHash stateHash;
+    private final ChangeLog changeLog;
 
     // Resource tracking
     private final Map<ResourceType, Integer> resources; // Current stockpiles
@@ -24,10 +29,13 @@ public class ResourceManager {
     private final Map<ResourceType, Integer> production; // Per turn production
     private final Map<ResourceType, Integer> consumption; // Per turn consumption
     private final Map<ResourceType, Integer> lastTurnResources; // For change tracking
+    private final Map<ResourceType, Integer> buildingOutput; // Net building output before splitting
 
     public ResourceManager(Game game) {
         this.game = game;
-        this.eventBus = EventBus.getInstance();
+        this.eventBus = game.getEventBus();
+        this.stateHash = game.getStateHash();
+        this.changeLog = game.getChangeLog();
 
         // Initialize resource maps
         resources = new EnumMap<>(ResourceType.class);
@@ -35,6 +43,7 @@ public class ResourceManager {
         production = new EnumMap<>(ResourceType.class);
         consumption = new EnumMap<>(ResourceType.class);
         lastTurnResources = new EnumMap<>(ResourceType.class);
+        buildingOutput = new EnumMap<>(ResourceType.class);
 
         // Set default values
         for (ResourceType type : ResourceType.values()) {
@@ -43,6 +52,7 @@ public class ResourceManager {
             production.put(type, 0);
             consumption.put(type, 0);
             lastTurnResources.put(type, 0);
+            buildingOutput.put(type, 0);
         }
 
         // Starting resources for a new colony
@@ -51,6 +61,12 @@ public class ResourceManager {
         resources.put(ResourceType.MATERIALS, 2000);
         resources.put(ResourceType.ENERGY, 500);
 
+        // Seed the state hash and the bus's sticky resource values, so listeners need not pull the starting stock
+        for (ResourceType type : ResourceType.values()) {
+            stateHash.toggle(StateHash.resourceKey(type, resources.get(type)));
+            eventBus.publish(ResourceEvent.current(this, type, resources.get(type)));
+        }
+
         LOGGER.info("ResourceManager initialized with starting resources");
     }
 
@@ -168,7 +184,7 @@ public class ResourceManager {
 
         // For non-storable resources, we don't enforce capacity
         if (type.isStorable() && current + amount > cap) {
-            resources.put(type, cap); // Cap at maximum
+            setAmount(type, cap); // Cap at maximum
 
             int actualAdded = cap - previous;
             LOGGER.warning(String.format("Resource %s at capacity: %d/%d. Wasted %d units",
@@ -180,9 +196,9 @@ public class ResourceManager {
             return Result.failure(String.format("Storage at capacity. Added %d of %d %s",
                     actualAdded, amount, type.getName()));
         } else {
-            resources.put(type, current + amount);
+            setAmount(type, current + amount);
 
-            LOGGER.info(String.format("Added %d %s. New total: %d",
+            LOGGER.fine(String.format("Added %d %s. New total: %d",
                     amount, type.getName(), current + amount));
 
             // Publish resource change event
@@ -218,9 +234,9 @@ public class ResourceManager {
                     type.getName(), current, amount));
         }
 
-        resources.put(type, current - amount);
+        setAmount(type, current - amount);
 
-        LOGGER.info(String.format("Removed %d %s. New total: %d",
+        LOGGER.fine(String.format("Removed %d %s. New total: %d",
                 amount, type.getName(), current - amount));
 
         // Publish resource change event
@@ -229,6 +245,82 @@ public class ResourceManager {
         return Result.success(amount);
     }
 
+    /**
+     * Checks if the stockpile covers every entry of a cost map.
+     *
+     * @param cost The resources required
+     * @return true if all resources are available, false otherwise
+     */
+    public boolean canAfford(Map<ResourceType, Integer> cost) {
+        for (Map.Entry<ResourceType, Integer> entry : cost.entrySet()) {
+            if (getResource(entry.getKey()) < entry.getValue()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes a whole cost map from the stockpile as one transaction.
+     * Either every resource is debited or none is, and one resource
+     * event is published per debited resource.
+     *
+     * @param cost The resources to remove
+     * @return A Result indicating success or failure
+     */
+    public Result<Map<ResourceType, Integer>> removeResources(Map<ResourceType, Integer> cost) {
+        if (cost == null) {
+            return Result.failure("Cost cannot be null");
+        }
+
+        for (Map.Entry<ResourceType, Integer> entry : cost.entrySet()) {
+            ResourceType type = entry.getKey();
+            int current = getResource(type);
+
+            if (current < entry.getValue()) {
+                LOGGER.warning(String.format("Not enough %s: %d/%d needed",
+                        type.getName(), current, entry.getValue()));
+                return Result.failure(String.format("Not enough %s: %d/%d needed",
+                        type.getName(), current, entry.getValue()));
+            }
+        }
+
+        for (Map.Entry<ResourceType, Integer> entry : cost.entrySet()) {
+            int previous = resources.get(entry.getKey());
+            setAmount(entry.getKey(), previous - entry.getValue());
+            publishChange(entry.getKey(), previous);
+        }
+
+        LOGGER.info("Removed resources in bulk: " + cost);
+
+        return Result.success(new EnumMap<>(cost));
+    }
+
+    /**
+     * Returns a whole cost map to the stockpile as one transaction.
+     * Refunds are not capped at storage capacity since they return
+     * resources the colony already held.
+     *
+     * @param refund The resources to return
+     * @return A Result indicating success or failure
+     */
+    public Result<Map<ResourceType, Integer>> refundResources(Map<ResourceType, Integer> refund) {
+        if (refund == null) {
+            return Result.failure("Refund cannot be null");
+        }
+
+        for (Map.Entry<ResourceType, Integer> entry : refund.entrySet()) {
+            int previous = getResource(entry.getKey());
+            setAmount(entry.getKey(), previous + entry.getValue());
+            publishChange(entry.getKey(), previous);
+        }
+
+        LOGGER.info("Refunded resources in bulk: " + refund);
+
+        return Result.success(new EnumMap<>(refund));
+    }
+
     /**
      * Updates storage capacities based on buildings.
      */
@@ -259,46 +351,79 @@ public class ResourceManager {
      * Calculates production and consumption rates for the current turn.
      */
     public void calculateProduction() {
-        // Reset production and consumption
+        // Reset building output
         for (ResourceType type : ResourceType.values()) {
-            production.put(type, 0);
-            consumption.put(type, 0);
+            buildingOutput.put(type, 0);
         }
 
         // Get production from buildings
         if (game.getBuildingManager() != null) {
-            Map<ResourceType, Integer> buildingProduction =
-                    game.getBuildingManager().calculateTotalProduction();
-
-            for (Map.Entry<ResourceType, Integer> entry : buildingProduction.entrySet()) {
-                ResourceType type = entry.getKey();
-                int amount = entry.getValue();
-
-                if (amount > 0) {
-                    // Positive values are production
-                    production.put(type, production.get(type) + amount);
-                } else if (amount < 0) {
-                    // Negative values are consumption
-                    consumption.put(type, consumption.get(type) - amount);
-                }
-            }
+            buildingOutput.putAll(game.getBuildingManager().calculateTotalProduction());
         }
 
-        // Additional production/consumption from other sources will be added here
-        // (e.g., population consumption, environmental effects, etc.)
+        // Population consumption is folded in while splitting; environmental
+        // effects will be added here
+        splitOutput();
 
         LOGGER.fine("Production and consumption rates calculated");
     }
 
+    /**
+     * Applies a net change in building output without rescanning every building.
+     * Used by bulk operations that already know which buildings changed.
+     *
+     * @param delta A map of resources to their change in net output
+     */
+    public void applyProductionDelta(Map<ResourceType, Integer> delta) {
+        for (Map.Entry<ResourceType, Integer> entry : delta.entrySet()) {
+            buildingOutput.merge(entry.getKey(), entry.getValue(), Integer::sum);
+        }
+
+        splitOutput();
+
+        LOGGER.fine("Applied production delta: " + delta);
+    }
+
+    /**
+     * Splits net output into the production and consumption maps.
+     * Positive values are production, negative values are consumption.
+     */
+    private void splitOutput() {
+        PopulationManager population = game.getPopulationManager();
+
+        for (ResourceType type : ResourceType.values()) {
+            int amount = buildingOutput.get(type);
+
+            // Colonists consume food and water on top of building upkeep
+            if (population != null) {
+                amount -= population.getDemand(type);
+            }
+
+            production.put(type, Math.max(amount, 0));
+            consumption.put(type, Math.max(-amount, 0));
+        }
+    }
+
     /**
      * Processes resource production and consumption for the current turn.
      */
     public void processTurn() {
+        // Turn bookkeeping is undone as a whole; stockpiles are undone change by change in setAmount
+        Map<ResourceType, Integer> previousLastTurn = new EnumMap<>(lastTurnResources);
+        Map<ResourceType, Integer> previousCapacity = new EnumMap<>(capacity);
+        changeLog.record(() -> {
+            lastTurnResources.putAll(previousLastTurn);
+            capacity.putAll(previousCapacity);
+        });
+
         // Store current resource values for change tracking
         for (ResourceType type : ResourceType.values()) {
             lastTurnResources.put(type, resources.get(type));
         }
 
+        // Energy cannot flow between grids, so each grid covers its own load first
+        balancePowerGrids();
+
         // Calculate production and consumption for this turn
         calculateProduction();
 
@@ -333,13 +458,10 @@ public class ResourceManager {
         }
 
         // Log resource changes
-        LOGGER.info(resourceReport.toString());
+        LOGGER.fine(resourceReport.toString());
 
-        // Update storage capacities
+        // Update storage capacities; every amount change was already published on its own
         updateStorage();
-
-        // Publish bulk resource update event
-        eventBus.publish(new ResourceEvent(this, new EnumMap<>(resources)));
     }
 
     /**
@@ -370,32 +492,25 @@ public class ResourceManager {
                 type.getName(), shortageAmount));
 
         // Notify via event
-        eventBus.publish(new GameEvent(this, GameEvent.EventType.RESOURCE_SHORTAGE) {
-            private final ResourceType resourceType = type;
-            private final int amount = shortageAmount;
-
-            public ResourceType getResourceType() {
-                return resourceType;
-            }
-
-            public int getAmount() {
-                return amount;
-            }
-        });
+        publishShortage(type, shortageAmount);
 
         // Apply shortage effects based on resource type
         switch (type) {
             case FOOD:
-                // Food shortage could affect population growth or morale
-                // We'll implement this when we have population
+                // Food shortage leaves colonists hungry, lowering morale and growth
+                if (game.getPopulationManager() != null) {
+                    game.getPopulationManager().applyShortage(type, shortageAmount);
+                }
                 break;
             case ENERGY:
-                // Energy shortage could deactivate some buildings
-                deactivateRandomBuilding();
+                // Load is shed per grid in balancePowerGrids before production is applied
                 break;
             case WATER:
-                // Water shortage could affect food production
-                // We'll implement this when we have more complex resource interactions
+                // Colonists go thirsty; effects on food production
+                // will come with more complex resource interactions
+                if (game.getPopulationManager() != null) {
+                    game.getPopulationManager().applyShortage(type, shortageAmount);
+                }
                 break;
             default:
                 // Other resources may have less severe effects
@@ -404,24 +519,58 @@ public class ResourceManager {
     }
 
     /**
-     * Deactivates a random building due to energy shortage.
+     * Publishes a resource shortage event.
+     *
+     * @param type           The resource type that's short
+     * @param shortageAmount The amount of the shortage
      */
-    private void deactivateRandomBuilding() {
-        if (game.getBuildingManager() == null) return;
+    private void publishShortage(ResourceType type, int shortageAmount) {
+        eventBus.publish(new ResourceShortageEvent(this, type, shortageAmount));
+    }
+
+    /**
+     * Sets a stockpile amount, keeping the game's state hash current and
+     * recording the change in the game's change log.
+     */
+    private void setAmount(ResourceType type, int amount) {
+        Integer stored = resources.put(type, amount);
+        int previous = stored != null ? stored : 0;
+        stateHash.replace(StateHash.resourceKey(type, previous), StateHash.resourceKey(type, amount));
+        changeLog.record(() -> {
+            setAmount(type, previous);
+            publishChange(type, amount);
+        });
+    }
 
-        List<Building> activeBuildings = game.getBuildingManager().getActiveBuildings();
-        if (activeBuildings.isEmpty()) return;
+    /**
+     * Publishes the change of one resource from a previous amount to its current one.
+     */
+    private void publishChange(ResourceType type, int previous) {
+        eventBus.publish(new ResourceEvent(this, type, getResource(type), previous));
+    }
 
-        // Pick a random building to deactivate
-        int index = new Random().nextInt(activeBuildings.size());
-        Building building = activeBuildings.get(index);
+    /**
+     * Balances energy within each power grid. Grids that consume more than
+     * they produce shed load inside that grid only; other grids are untouched.
+     */
+    private void balancePowerGrids() {
+        if (game.getBuildingManager() == null) return;
+
+        PowerNetwork network = game.getBuildingManager().getPowerNetwork();
+        List<PowerNetwork.GridShortage> shortages = network.balance(game.getBuildingManager().getBuildings());
+        if (shortages.isEmpty()) return;
 
-        building.deactivate();
+        List<Building> shed = new ArrayList<>();
+        for (PowerNetwork.GridShortage shortage : shortages) {
+            LOGGER.warning(String.format("SHORTAGE: Energy grid %d - %d units short, shedding %d buildings",
+                    shortage.getGridId(), shortage.getDeficit(), shortage.getShedLoad().size()));
 
-        LOGGER.warning("Deactivated " + building.getName() + " due to energy shortage");
+            publishShortage(ResourceType.ENERGY, shortage.getDeficit());
+            shed.addAll(shortage.getShedLoad());
+        }
 
-        // Publish building deactivated event
-        eventBus.publish(BuildingEvent.deactivated(this, building, building.getLocation()));
+        // One batched deactivation for every grid in deficit
+        game.getBuildingManager().setActive(shed, false);
     }
 
     /**
@@ -457,8 +606,5 @@ public class ResourceManager {
     public void recalculateProduction() {
         calculateProduction();
         LOGGER.info("Recalculated production due to building state change");
-
-        // Publish resource change event
-        eventBus.publish(new ResourceEvent(this, new EnumMap<>(resources)));
     }
 }
\ No newline at end of file
@@ -1,30 +1,26 @@
 package com.colonygenesis.resource;
 
-import javafx.scene.paint.Color;
-
 public enum ResourceType {
     // Basic resources
-    FOOD("Food", "Sustains your colony population", Color.GREEN, true, true),
-    ENERGY("Energy", "Powers buildings and operations", Color.YELLOW, true, false),
-    MATERIALS("Materials", "Used for construction and maintenance", Color.BROWN, true, true),
-    WATER("Water", "Essential for life support and agriculture", Color.LIGHTBLUE, true, true),
-    RESEARCH("Research", "Advances technology", Color.PURPLE, true, false),
+    FOOD("Food", "Sustains your colony population", true, true),
+    ENERGY("Energy", "Powers buildings and operations", true, false),
+    MATERIALS("Materials", "Used for construction and maintenance", true, true),
+    WATER("Water", "Essential for life support and agriculture", true, true),
+    RESEARCH("Research", "Advances technology", true, false),
 
     // Advanced resources
-    RARE_MINERALS("Rare Minerals", "Advanced construction material", Color.SILVER, false, true),
-    ALIEN_COMPOUNDS("Alien Compounds", "Mysterious alien substances", Color.MAGENTA, false, true);
+    RARE_MINERALS("Rare Minerals", "Advanced construction material", false, true),
+    ALIEN_COMPOUNDS("Alien Compounds", "Mysterious alien substances", false, true);
 
     private final String name;
     private final String description;
-    private final Color color;
     private final boolean basic; // Is this a basic resource type?
     private final boolean storable; // Can this resource be stored?
     private final int baseStorage; // Base storage capacity
 
-    ResourceType(String name, String description, Color color, boolean basic, boolean storable) {
+    ResourceType(String name, String description, boolean basic, boolean storable) {
         this.name = name;
         this.description = description;
-        this.color = color;
         this.basic = basic;
         this.storable = storable;
 
@@ -48,10 +44,6 @@ public enum ResourceType {
         return description;
     }
 
-    public Color getColor() {
-        return color;
-    }
-
     public boolean isBasic() {
         return basic;
     }
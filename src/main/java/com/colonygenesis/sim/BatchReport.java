@@ -0,0 +1,134 @@
+package com.colonygenesis.sim;
+
+import com.colonygenesis.resource.ResourceType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IntSummaryStatistics;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregated outcome of a batch of simulation runs.
+ *
+ * <p>Reports are built up one {@link RunSummary} at a time by
+ * {@link BatchSimulationService} and hold min, mean and max of each outcome
+ * across the runs that completed.</p>
+ */
+public class BatchReport {
+    private final Map<ResourceType, IntSummaryStatistics> finalResources = new EnumMap<>(ResourceType.class);
+    private final IntSummaryStatistics shortages = new IntSummaryStatistics();
+    private final IntSummaryStatistics buildingCounts = new IntSummaryStatistics();
+    private final IntSummaryStatistics populations = new IntSummaryStatistics();
+    private final IntSummaryStatistics failedBuilds = new IntSummaryStatistics();
+    private long totalTurns;
+    private long simulationNanos;
+    private long wallClockNanos;
+    private int failedRuns;
+
+    BatchReport() {
+        for (ResourceType type : ResourceType.values()) {
+            finalResources.put(type, new IntSummaryStatistics());
+        }
+    }
+
+    void add(RunSummary summary) {
+        for (Map.Entry<ResourceType, Integer> entry : summary.getFinalResources().entrySet()) {
+            finalResources.get(entry.getKey()).accept(entry.getValue());
+        }
+        shortages.accept(summary.getShortages());
+        buildingCounts.accept(summary.getBuildingCount());
+        populations.accept(summary.getPopulation());
+        failedBuilds.accept(summary.getBuildsFailed());
+        totalTurns += summary.getTurns();
+        simulationNanos += summary.getElapsedNanos();
+    }
+
+    void recordFailedRun() {
+        failedRuns++;
+    }
+
+    void setWallClockNanos(long wallClockNanos) {
+        this.wallClockNanos = wallClockNanos;
+    }
+
+    /**
+     * Gets the number of runs that completed.
+     */
+    public int getCompletedRuns() {
+        return (int) shortages.getCount();
+    }
+
+    /**
+     * Gets the number of runs that ended with an exception.
+     */
+    public int getFailedRuns() {
+        return failedRuns;
+    }
+
+    public long getTotalTurns() {
+        return totalTurns;
+    }
+
+    public long getWallClockNanos() {
+        return wallClockNanos;
+    }
+
+    /**
+     * Gets the batch throughput: turns simulated across all runs per second
+     * of wall-clock time.
+     */
+    public double getTurnsPerSecond() {
+        return wallClockNanos > 0 ? totalTurns * (double) TimeUnit.SECONDS.toNanos(1) / wallClockNanos : 0.0;
+    }
+
+    /**
+     * Gets how many runs progressed at once on average: the summed run time
+     * divided by the wall-clock time.
+     */
+    public double getEffectiveParallelism() {
+        return wallClockNanos > 0 ? simulationNanos / (double) wallClockNanos : 0.0;
+    }
+
+    public Map<ResourceType, IntSummaryStatistics> getFinalResources() {
+        return Collections.unmodifiableMap(finalResources);
+    }
+
+    public IntSummaryStatistics getShortages() {
+        return shortages;
+    }
+
+    public IntSummaryStatistics getBuildingCounts() {
+        return buildingCounts;
+    }
+
+    public IntSummaryStatistics getPopulations() {
+        return populations;
+    }
+
+    public IntSummaryStatistics getFailedBuilds() {
+        return failedBuilds;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%d runs (%d failed), %d turns in %.1f s: %.0f turns/sec, parallelism %.1f%n",
+                getCompletedRuns(), failedRuns, totalTurns, wallClockNanos / 1e9,
+                getTurnsPerSecond(), getEffectiveParallelism()));
+        appendLine(report, "Shortages", shortages);
+        appendLine(report, "Buildings", buildingCounts);
+        appendLine(report, "Population", populations);
+        appendLine(report, "Failed builds", failedBuilds);
+        for (Map.Entry<ResourceType, IntSummaryStatistics> entry : finalResources.entrySet()) {
+            appendLine(report, entry.getKey().getName(), entry.getValue());
+        }
+        return report.toString();
+    }
+
+    private static void appendLine(StringBuilder report, String label, IntSummaryStatistics stats) {
+        report.append(String.format("  %-16s min %d, mean %.1f, max %d%n",
+                label, stats.getCount() > 0 ? stats.getMin() : 0, stats.getAverage(),
+                stats.getCount() > 0 ? stats.getMax() : 0));
+    }
+}
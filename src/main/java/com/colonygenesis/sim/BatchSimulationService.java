@@ -0,0 +1,90 @@
+package com.colonygenesis.sim;
+
+import com.colonygenesis.util.LoggerUtils;
+
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs many independent seeded games in parallel and aggregates their outcomes.
+ *
+ * <p>Every run gets its own {@link com.colonygenesis.core.Game}, and with it
+ * its own event bus and seeded planet, so runs share no mutable state. The
+ * work is CPU-bound, so runs are scheduled on a fork-join pool sized to the
+ * available cores rather than on more threads than there are cores to run
+ * them. Summaries are streamed to the caller as runs finish.</p>
+ */
+public class BatchSimulationService {
+    private static final Logger LOGGER = LoggerUtils.getLogger(BatchSimulationService.class);
+
+    private final int parallelism;
+
+    public BatchSimulationService() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchSimulationService(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Runs a batch of games, one per seed from {@code firstSeed} upwards.
+     *
+     * @param template The runner whose settings every run uses; its own seed is ignored
+     * @param firstSeed The seed of the first run
+     * @param runs The number of runs
+     * @param onSummary Called on the calling thread with each summary as its run finishes, or null
+     * @return The aggregated report
+     * @throws InterruptedException if interrupted while waiting for runs
+     */
+    public BatchReport run(HeadlessGameRunner template, long firstSeed, int runs,
+                           Consumer<RunSummary> onSummary) throws InterruptedException {
+        if (runs < 0) {
+            throw new IllegalArgumentException("Run count cannot be negative");
+        }
+
+        BatchReport report = new BatchReport();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        CompletionService<RunSummary> completion = new ExecutorCompletionService<>(pool);
+
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < runs; i++) {
+                HeadlessGameRunner runner = template.withSeed(firstSeed + i);
+                completion.submit(runner::run);
+            }
+
+            for (int i = 0; i < runs; i++) {
+                try {
+                    RunSummary summary = completion.take().get();
+                    report.add(summary);
+                    if (onSummary != null) {
+                        onSummary.accept(summary);
+                    }
+                } catch (ExecutionException e) {
+                    report.recordFailedRun();
+                    LOGGER.log(Level.WARNING, "Simulation run failed", e.getCause());
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        report.setWallClockNanos(System.nanoTime() - start);
+
+        LOGGER.info("Batch of " + runs + " runs finished at " +
+                String.format("%.0f", report.getTurnsPerSecond()) + " turns/sec");
+        return report;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+}
@@ -0,0 +1,91 @@
+package com.colonygenesis.sim;
+
+import com.colonygenesis.building.BuildingFactory;
+import com.colonygenesis.util.Result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One step of a scripted build order: a building to place at a tile on a turn.
+ *
+ * <p>Build orders are written as {@code turn:Building Name@x,y}, with steps
+ * separated by semicolons, e.g. {@code 1:Farm@5,5;1:Habitation Dome@6,5}.</p>
+ */
+public class BuildOrder {
+    private final int turn;
+    private final String buildingName;
+    private final int x;
+    private final int y;
+
+    public BuildOrder(int turn, String buildingName, int x, int y) {
+        this.turn = turn;
+        this.buildingName = buildingName;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Parses a build order script.
+     *
+     * @param script The script, or an empty string for no builds
+     * @return A Result containing the steps in script order, or a failure naming the bad step
+     */
+    public static Result<List<BuildOrder>> parse(String script) {
+        if (script == null || script.isBlank()) {
+            return Result.success(Collections.emptyList());
+        }
+
+        List<BuildOrder> orders = new ArrayList<>();
+        for (String step : script.split(";")) {
+            String trimmed = step.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+
+            int colon = trimmed.indexOf(':');
+            int at = trimmed.lastIndexOf('@');
+            int comma = trimmed.lastIndexOf(',');
+            if (colon < 0 || at < colon || comma < at) {
+                return Result.failure("Malformed build step '" + trimmed + "', expected turn:Name@x,y");
+            }
+
+            try {
+                int turn = Integer.parseInt(trimmed.substring(0, colon).trim());
+                String name = trimmed.substring(colon + 1, at).trim();
+                int x = Integer.parseInt(trimmed.substring(at + 1, comma).trim());
+                int y = Integer.parseInt(trimmed.substring(comma + 1).trim());
+
+                if (BuildingFactory.createByName(name) == null) {
+                    return Result.failure("Unknown building '" + name + "' in step '" + trimmed + "'");
+                }
+                orders.add(new BuildOrder(turn, name, x, y));
+            } catch (NumberFormatException e) {
+                return Result.failure("Bad number in build step '" + trimmed + "'");
+            }
+        }
+        return Result.success(orders);
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public String getBuildingName() {
+        return buildingName;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    @Override
+    public String toString() {
+        return turn + ":" + buildingName + "@" + x + "," + y;
+    }
+}
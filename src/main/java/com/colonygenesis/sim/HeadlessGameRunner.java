@@ -0,0 +1,274 @@
+package com.colonygenesis.sim;
+
+import com.colonygenesis.building.Building;
+import com.colonygenesis.building.BuildingFactory;
+import com.colonygenesis.controller.GameController;
+import com.colonygenesis.core.Game;
+import com.colonygenesis.core.TurnManager;
+import com.colonygenesis.event.EventJournal;
+import com.colonygenesis.event.events.ResourceShortageEvent;
+import com.colonygenesis.map.Tile;
+import com.colonygenesis.util.LoggerUtils;
+import com.colonygenesis.util.Result;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs a game without a user interface.
+ *
+ * <p>The runner generates a planet from a seed, places buildings from a
+ * scripted build order at the start of their turns and advances phases as
+ * fast as the simulation allows. Nothing here touches JavaFX, so it runs on
+ * machines without a display.</p>
+ *
+ * <p>Usage: {@code HeadlessGameRunner [--seed N] [--width W] [--height H]
+ * [--turns T] [--runs R] [--journal DIR] [--build "1:Farm@5,5;2:Habitation Dome@6,5"]}.
+ * With more than one run, seeds N to N+R-1 are simulated in parallel by a
+ * {@link BatchSimulationService} and the aggregated report is printed.
+ * With a journal directory, every event of a run is recorded in an
+ * {@link EventJournal} under {@code DIR/seed-N}; comparing run times with
+ * and without it measures the journal's overhead.</p>
+ *
+ * <p>The application module requires JavaFX, so the runner is launched on
+ * the plain classpath rather than as a module, for example with
+ * {@code mvn compile exec:java -Pheadless -Dexec.args="--seed 7 --turns 500"}.</p>
+ */
+public class HeadlessGameRunner {
+    private static final Logger LOGGER = LoggerUtils.getLogger(HeadlessGameRunner.class);
+
+    private final long seed;
+    private final int width;
+    private final int height;
+    private final int turns;
+    private final List<BuildOrder> buildOrder;
+    private final Path journalDirectory;
+
+    public HeadlessGameRunner(long seed, int width, int height, int turns, List<BuildOrder> buildOrder) {
+        this(seed, width, height, turns, buildOrder, null);
+    }
+
+    private HeadlessGameRunner(long seed, int width, int height, int turns, List<BuildOrder> buildOrder,
+                               Path journalDirectory) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Planet size must be positive");
+        }
+        if (turns < 0) {
+            throw new IllegalArgumentException("Turn count cannot be negative");
+        }
+        this.seed = seed;
+        this.width = width;
+        this.height = height;
+        this.turns = turns;
+        this.buildOrder = new ArrayList<>(buildOrder);
+        this.buildOrder.sort((a, b) -> Integer.compare(a.getTurn(), b.getTurn()));
+        this.journalDirectory = journalDirectory;
+    }
+
+    /**
+     * Creates a runner with the same settings and a different seed.
+     *
+     * @param seed The seed for the new runner
+     * @return The new runner
+     */
+    public HeadlessGameRunner withSeed(long seed) {
+        return new HeadlessGameRunner(seed, width, height, turns, buildOrder, journalDirectory);
+    }
+
+    /**
+     * Creates a runner with the same settings that records every event of a
+     * run in a journal.
+     *
+     * @param directory The directory holding one journal per seed, or null for none
+     * @return The new runner
+     */
+    public HeadlessGameRunner withJournal(Path directory) {
+        return new HeadlessGameRunner(seed, width, height, turns, buildOrder, directory);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Creates and initializes the game this runner simulates.
+     *
+     * @return The initialized game
+     */
+    public Game createGame() {
+        Game game = new Game();
+        game.initializeGame(width, height, seed);
+        return game;
+    }
+
+    /**
+     * Runs a new game for the configured number of turns.
+     *
+     * @return The summary of the run
+     */
+    public RunSummary run() {
+        EventJournal journal = openJournal();
+        Game game = new Game();
+        if (journal != null) {
+            game.getEventBus().register(journal);
+        }
+        game.initializeGame(width, height, seed);
+
+        GameController controller = new GameController(game);
+        TurnManager turnManager = game.getTurnManager();
+
+        int[] shortages = new int[1];
+        game.getEventBus().subscribe(ResourceShortageEvent.class, event -> shortages[0]++);
+
+        int placed = 0;
+        int failed = 0;
+        int next = 0;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < turns; i++) {
+            int turn = turnManager.getTurnNumber();
+
+            // Place this turn's buildings during planning, as a player would
+            while (next < buildOrder.size() && buildOrder.get(next).getTurn() <= turn) {
+                if (place(controller, game, buildOrder.get(next))) {
+                    placed++;
+                } else {
+                    failed++;
+                }
+                next++;
+            }
+
+            // Planning and building wait for input; the rest of the turn runs on its own
+            while (turnManager.getTurnNumber() == turn) {
+                Result<?> phase = controller.executeCurrentPhase();
+                if (phase.isFailure()) {
+                    throw new IllegalStateException("Seed " + seed + ", turn " + turn + ": " + phase.getErrorMessage());
+                }
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (journal != null) {
+            journal.close();
+        }
+
+        return new RunSummary(seed, turns, elapsed, placed, failed, shortages[0],
+                game.getPopulationManager().getPopulation(),
+                game.getBuildingManager().getBuildings().size(),
+                game.getResourceManager().getAllResources(),
+                turnManager.getTurnHashes());
+    }
+
+    private EventJournal openJournal() {
+        if (journalDirectory == null) {
+            return null;
+        }
+        Result<EventJournal> journal = EventJournal.open(journalDirectory.resolve("seed-" + seed));
+        if (journal.isFailure()) {
+            LOGGER.warning("Running without a journal: " + journal.getErrorMessage());
+            return null;
+        }
+        return journal.getValueOrNull();
+    }
+
+    private boolean place(GameController controller, Game game, BuildOrder order) {
+        Tile tile = game.getPlanet().getTileAt(order.getX(), order.getY());
+        if (tile == null) {
+            LOGGER.warning("Build step " + order + " is off the map");
+            return false;
+        }
+
+        Building building = BuildingFactory.createByName(order.getBuildingName());
+        Result<?> result = controller.placeBuilding(building, tile);
+        if (result.isFailure()) {
+            LOGGER.warning("Build step " + order + " failed: " + result.getErrorMessage());
+            return false;
+        }
+        return true;
+    }
+
+    public static void main(String[] args) {
+        long seed = 42L;
+        int width = 30;
+        int height = 20;
+        int turns = 100;
+        int runs = 1;
+        String script = "";
+        Path journal = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String value = i + 1 < args.length ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "--seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    case "--width":
+                        width = Integer.parseInt(value);
+                        break;
+                    case "--height":
+                        height = Integer.parseInt(value);
+                        break;
+                    case "--turns":
+                        turns = Integer.parseInt(value);
+                        break;
+                    case "--runs":
+                        runs = Integer.parseInt(value);
+                        break;
+                    case "--build":
+                        script = value;
+                        break;
+                    case "--journal":
+                        journal = Paths.get(value);
+                        break;
+                    default:
+                        usage("Unknown option " + args[i]);
+                        return;
+                }
+                i++;
+            }
+        } catch (NumberFormatException | NullPointerException | InvalidPathException e) {
+            usage("Missing or invalid option value");
+            return;
+        }
+
+        Result<List<BuildOrder>> orders = BuildOrder.parse(script);
+        if (orders.isFailure()) {
+            usage(orders.getErrorMessage());
+            return;
+        }
+
+        // Per-phase INFO logging would dominate a full-speed run
+        LoggerUtils.setLevel(Level.WARNING);
+
+        HeadlessGameRunner runner = new HeadlessGameRunner(seed, width, height, turns, orders.getValueOrNull())
+                .withJournal(journal);
+        if (runs <= 1) {
+            System.out.println(runner.run());
+            return;
+        }
+
+        try {
+            BatchReport report = new BatchSimulationService().run(runner, seed, runs, null);
+            System.out.print(report);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void usage(String error) {
+        System.err.println(error);
+        System.err.println("Usage: HeadlessGameRunner [--seed N] [--width W] [--height H] [--turns T] [--runs R] " +
+                "[--journal DIR] [--build \"turn:Building Name@x,y;...\"]");
+        System.exit(2);
+    }
+}
@@ -0,0 +1,114 @@
+package com.colonygenesis.sim;
+
+import com.colonygenesis.resource.ResourceType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of one headless simulation run.
+ */
+public class RunSummary {
+    private final long seed;
+    private final int turns;
+    private final long elapsedNanos;
+    private final int buildsPlaced;
+    private final int buildsFailed;
+    private final int shortages;
+    private final int population;
+    private final int buildingCount;
+    private final Map<ResourceType, Integer> finalResources;
+    private final long[] turnHashes;
+
+    public RunSummary(long seed, int turns, long elapsedNanos, int buildsPlaced, int buildsFailed, int shortages,
+                      int population, int buildingCount, Map<ResourceType, Integer> finalResources,
+                      long[] turnHashes) {
+        this.seed = seed;
+        this.turns = turns;
+        this.elapsedNanos = elapsedNanos;
+        this.buildsPlaced = buildsPlaced;
+        this.buildsFailed = buildsFailed;
+        this.shortages = shortages;
+        this.population = population;
+        this.buildingCount = buildingCount;
+        this.finalResources = Collections.unmodifiableMap(new EnumMap<>(finalResources));
+        this.turnHashes = turnHashes.clone();
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getTurns() {
+        return turns;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the simulation speed of the run.
+     *
+     * @return Turns simulated per second of wall-clock time
+     */
+    public double getTurnsPerSecond() {
+        return elapsedNanos > 0 ? turns * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos : 0.0;
+    }
+
+    public int getBuildsPlaced() {
+        return buildsPlaced;
+    }
+
+    public int getBuildsFailed() {
+        return buildsFailed;
+    }
+
+    /**
+     * Gets the number of resource shortages reported during the run.
+     */
+    public int getShortages() {
+        return shortages;
+    }
+
+    public int getPopulation() {
+        return population;
+    }
+
+    public int getBuildingCount() {
+        return buildingCount;
+    }
+
+    public Map<ResourceType, Integer> getFinalResources() {
+        return finalResources;
+    }
+
+    /**
+     * Gets the state hash recorded at the end of each turn, starting with turn 1.
+     * Two runs with the same seed and build order must have equal hashes.
+     *
+     * @return A copy of the per-turn hashes
+     */
+    public long[] getTurnHashes() {
+        return turnHashes.clone();
+    }
+
+    /**
+     * Gets the state hash at the end of the last completed turn.
+     *
+     * @return The final hash, or 0 if no turn completed
+     */
+    public long getFinalHash() {
+        return turnHashes.length > 0 ? turnHashes[turnHashes.length - 1] : 0L;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("seed %d: %d turns in %.1f ms (%.0f turns/sec), %d builds placed, %d failed, " +
+                        "%d shortages, population %d, %d buildings, resources %s, state hash %016x",
+                seed, turns, elapsedNanos / 1_000_000.0, getTurnsPerSecond(), buildsPlaced, buildsFailed,
+                shortages, population, buildingCount, finalResources, getFinalHash());
+    }
+}
@@ -105,7 +105,7 @@ public class BuildingDetailsPanel extends Panel {
                 int amount = entry.getValue();
 
                 Label resourceLabel = new Label(type.getName() + ":");
-                resourceLabel.setTextFill(type.getColor());
+                resourceLabel.setTextFill(Palette.colorOf(type));
 
                 Label amountLabel = new Label(
                         amount > 0 ? "+" + amount : String.valueOf(amount)
@@ -135,7 +135,7 @@ public class BuildingDetailsPanel extends Panel {
                 int amount = entry.getValue();
 
                 Label resourceLabel = new Label(type.getName() + ":");
-                resourceLabel.setTextFill(type.getColor());
+                resourceLabel.setTextFill(Palette.colorOf(type));
 
                 Label amountLabel = new Label("-" + amount);
                 amountLabel.setTextFill(Color.RED);
@@ -4,9 +4,9 @@ import com.colonygenesis.building.Building;
 import com.colonygenesis.building.BuildingFactory;
 import com.colonygenesis.building.BuildingType;
 import com.colonygenesis.core.Game;
-import com.colonygenesis.event.EventBus;
 import com.colonygenesis.event.EventListener;
 import com.colonygenesis.event.GameEvent;
+import com.colonygenesis.event.SubscriptionScope;
 import com.colonygenesis.resource.ResourceType;
 import com.colonygenesis.util.LoggerUtils;
 
@@ -29,17 +29,17 @@ public class BuildingPanel extends Panel implements EventListener {
 
     private final Game game;
     private final VBox buildingsContainer;
-    private final EventBus eventBus;
+    private final SubscriptionScope subscriptions;
     private Building selectedBuilding;
     private Consumer<Building> onBuildingSelected;
 
     public BuildingPanel(Game game) {
         this.game = game;
-        this.eventBus = EventBus.getInstance();
+        this.subscriptions = new SubscriptionScope(game.getEventBus());
         this.buildingsContainer = new VBox(10);
 
         // Register for events
-        eventBus.register(this,
+        subscriptions.register(this,
                 GameEvent.EventType.RESOURCE_CHANGED,
                 GameEvent.EventType.BUILDING_PLACED
         );
@@ -75,6 +75,9 @@ public class BuildingPanel extends Panel implements EventListener {
         // Add habitation buildings
         createBuildingItem(BuildingFactory.createHabitationDome());
         createBuildingItem(BuildingFactory.createLuxuryApartments());
+
+        // Add infrastructure buildings
+        createBuildingItem(BuildingFactory.createPowerConduit());
     }
 
     private void createBuildingItem(Building building) {
@@ -125,24 +128,8 @@ public class BuildingPanel extends Panel implements EventListener {
         selectButton.setDisable(!canAffordAll);
 
         selectButton.setOnAction(e -> {
-            // Create a new instance of the building type
-            Building newBuilding = null;
-            String name = building.getName();
-
-            // Create a new instance using the factory
-            if (name.equals("Farm")) {
-                newBuilding = BuildingFactory.createFarm();
-            } else if (name.equals("Mine")) {
-                newBuilding = BuildingFactory.createMine();
-            } else if (name.equals("Solar Panel")) {
-                newBuilding = BuildingFactory.createSolarPanel();
-            } else if (name.equals("Water Extractor")) {
-                newBuilding = BuildingFactory.createWaterExtractor();
-            } else if (name.equals("Habitation Dome")) {
-                newBuilding = BuildingFactory.createHabitationDome();
-            } else if (name.equals("Luxury Apartments")) {
-                newBuilding = BuildingFactory.createLuxuryApartments();
-            }
+            // Create a new instance of the building type using the factory
+            Building newBuilding = BuildingFactory.createByName(building.getName());
 
             if (newBuilding != null) {
                 selectedBuilding = newBuilding;
@@ -185,4 +172,16 @@ public class BuildingPanel extends Panel implements EventListener {
         return eventType == GameEvent.EventType.RESOURCE_CHANGED ||
                 eventType == GameEvent.EventType.BUILDING_PLACED;
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean isUiBound() {
+        return true;
+    }
+
+    /**
+     * Unregisters this panel from the event bus. Call when it is discarded.
+     */
+    public void dispose() {
+        subscriptions.close();
+    }
+}
@@ -4,6 +4,7 @@ import com.colonygenesis.building.Building;
 import com.colonygenesis.event.EventBus;
 import com.colonygenesis.event.EventListener;
 import com.colonygenesis.event.GameEvent;
+import com.colonygenesis.event.SubscriptionScope;
 import com.colonygenesis.event.events.BuildingEvent;
 import com.colonygenesis.event.events.TileEvent;
 import com.colonygenesis.map.ResourceDeposit;
@@ -29,19 +30,23 @@ public class InfoPanel extends Panel implements EventListener {
     private final Label buildingLabel;
     private final Label effectsLabel;
     private Tile currentTile;
-    private final EventBus eventBus;
+    private final SubscriptionScope subscriptions;
 
-    public InfoPanel() {
-        this.eventBus = EventBus.getInstance();
+    public InfoPanel(EventBus eventBus) {
+        this.subscriptions = new SubscriptionScope(eventBus);
 
         // Register for events
-        eventBus.register(this,
+        subscriptions.register(this,
                 GameEvent.EventType.TILE_UPDATED,
                 GameEvent.EventType.BUILDING_PLACED,
                 GameEvent.EventType.BUILDING_COMPLETED,
                 GameEvent.EventType.BUILDING_ACTIVATED,
                 GameEvent.EventType.BUILDING_DEACTIVATED,
-                GameEvent.EventType.BUILDING_REMOVED
+                GameEvent.EventType.BUILDING_REMOVED,
+                GameEvent.EventType.BUILDINGS_PLACED,
+                GameEvent.EventType.BUILDINGS_REMOVED,
+                GameEvent.EventType.BUILDINGS_ACTIVATED,
+                GameEvent.EventType.BUILDINGS_DEACTIVATED
         );
 
         VBox content = new VBox(10);
@@ -175,6 +180,14 @@ public class InfoPanel extends Panel implements EventListener {
                 case BUILDING_REMOVED:
                     handleBuildingRemoved((BuildingEvent) event);
                     break;
+
+                case BUILDINGS_PLACED:
+                case BUILDINGS_REMOVED:
+                case BUILDINGS_ACTIVATED:
+                case BUILDINGS_DEACTIVATED:
+                    // Cheaper to refresh the selected tile than to search the batch
+                    update(currentTile);
+                    break;
             }
         });
     }
@@ -222,9 +235,25 @@ public class InfoPanel extends Panel implements EventListener {
             case BUILDING_ACTIVATED:
             case BUILDING_DEACTIVATED:
             case BUILDING_REMOVED:
+            case BUILDINGS_PLACED:
+            case BUILDINGS_REMOVED:
+            case BUILDINGS_ACTIVATED:
+            case BUILDINGS_DEACTIVATED:
                 return true;
             default:
                 return false;
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean isUiBound() {
+        return true;
+    }
+
+    /**
+     * Unregisters this panel from the event bus. Call when it is discarded.
+     */
+    public void dispose() {
+        subscriptions.close();
+    }
+}
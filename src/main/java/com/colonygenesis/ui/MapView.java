@@ -2,13 +2,13 @@ package com.colonygenesis.ui;
 
 import com.colonygenesis.building.Building;
 import com.colonygenesis.event.EventBus;
-import com.colonygenesis.event.EventListener;
-import com.colonygenesis.event.GameEvent;
+import com.colonygenesis.event.SubscriptionScope;
+import com.colonygenesis.event.events.BuildingBatchEvent;
 import com.colonygenesis.event.events.BuildingEvent;
 import com.colonygenesis.event.events.TileEvent;
 import com.colonygenesis.map.HexGrid;
-import com.colonygenesis.map.Tile;
 import com.colonygenesis.map.TerrainType;
+import com.colonygenesis.map.Tile;
 import com.colonygenesis.util.LoggerUtils;
 
 import javafx.application.Platform;
@@ -25,7 +25,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Logger;
 
-public class MapView extends Pane implements EventListener {
+public class MapView extends Pane {
     private static final Logger LOGGER = LoggerUtils.getLogger(MapView.class);
 
     private final HexGrid grid;
@@ -34,21 +34,22 @@ public class MapView extends Pane implements EventListener {
     private double offsetY = 50.0;
 
     private final Map<Tile, Polygon> hexagonMap = new HashMap<>();
-    private final EventBus eventBus;
+    private final SubscriptionScope subscriptions;
 
-    public MapView(HexGrid grid) {
+    public MapView(HexGrid grid, EventBus eventBus) {
         this.grid = grid;
-        this.eventBus = EventBus.getInstance();
-
-        // Register for tile and building events
-        eventBus.register(this,
-                GameEvent.EventType.TILE_UPDATED,
-                GameEvent.EventType.BUILDING_PLACED,
-                GameEvent.EventType.BUILDING_COMPLETED,
-                GameEvent.EventType.BUILDING_ACTIVATED,
-                GameEvent.EventType.BUILDING_DEACTIVATED,
-                GameEvent.EventType.BUILDING_REMOVED
-        );
+        this.subscriptions = new SubscriptionScope(eventBus);
+
+        // Subscribe to tile and building events; rendering happens on the FX thread
+        subscriptions.subscribeUi(TileEvent.class, event -> Platform.runLater(() -> renderTile(event.getTile())));
+        subscriptions.subscribeUi(BuildingEvent.class, event -> Platform.runLater(() -> {
+            if (event.getTile() != null) {
+                // Also gives removed buildings a clean render of the empty tile
+                renderTile(event.getTile());
+            }
+        }));
+        // One full render is cheaper than re-rendering every tile in a large batch
+        subscriptions.subscribeUi(BuildingBatchEvent.class, event -> Platform.runLater(this::renderGrid));
 
         this.setMinSize(800, 600);
         this.setPrefSize(1000, 800);
@@ -100,7 +101,7 @@ public class MapView extends Pane implements EventListener {
 
         // Set the fill color based on terrain
         TerrainType terrain = tile.getTerrainType();
-        hexagon.setFill(terrain.getDisplayColor());
+        hexagon.setFill(Palette.colorOf(terrain));
 
         // Add stroke to see boundaries
         hexagon.setStroke(Color.BLACK);
@@ -120,7 +121,7 @@ public class MapView extends Pane implements EventListener {
             double centerY = hexagon.getBoundsInParent().getCenterY() + hexSize/2;
 
             Circle resourceMarker = new Circle(centerX, centerY, hexSize/5);
-            resourceMarker.setFill(tile.getResourceDeposit().getResourceType().getColor());
+            resourceMarker.setFill(Palette.colorOf(tile.getResourceDeposit().getResourceType()));
             resourceMarker.setStroke(Color.BLACK);
             resourceMarker.setStrokeWidth(1.0);
             resourceMarker.setUserData("tile_" + tile.getX() + "_" + tile.getY() + "_resource");
@@ -284,54 +285,15 @@ public class MapView extends Pane implements EventListener {
         contextMenu.show(hexagon, x, y);
     }
 
-    @Override
-    public void onEvent(GameEvent event) {
-        Platform.runLater(() -> {
-            switch (event.getType()) {
-                case TILE_UPDATED:
-                    TileEvent tileEvent = (TileEvent) event;
-                    renderTile(tileEvent.getTile());
-                    break;
-
-                case BUILDING_PLACED:
-                case BUILDING_COMPLETED:
-                case BUILDING_ACTIVATED:
-                case BUILDING_DEACTIVATED:
-                    BuildingEvent buildingEvent = (BuildingEvent) event;
-                    if (buildingEvent.getTile() != null) {
-                        renderTile(buildingEvent.getTile());
-                    }
-                    break;
-
-                case BUILDING_REMOVED:
-                    // Special handling for building removal
-                    BuildingEvent removedEvent = (BuildingEvent) event;
-                    if (removedEvent.getTile() != null) {
-                        // Force a clean rendering of the tile without the building
-                        renderTile(removedEvent.getTile());
-                    }
-                    break;
-            }
-        });
-    }
-
-    @Override
-    public boolean isInterestedIn(GameEvent.EventType eventType) {
-        switch (eventType) {
-            case TILE_UPDATED:
-            case BUILDING_PLACED:
-            case BUILDING_COMPLETED:
-            case BUILDING_ACTIVATED:
-            case BUILDING_DEACTIVATED:
-            case BUILDING_REMOVED:
-                return true;
-            default:
-                return false;
-        }
-    }
-
     // For development, show all tiles regardless of revealed status
     private boolean isDebugMode() {
         return true; // During development
     }
-}
\ No newline at end of file
+
+    /**
+     * Unregisters this view from the event bus. Call when it is discarded.
+     */
+    public void dispose() {
+        subscriptions.close();
+    }
+}
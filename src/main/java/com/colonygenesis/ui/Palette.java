@@ -0,0 +1,59 @@
+package com.colonygenesis.ui;
+
+import com.colonygenesis.map.TerrainType;
+import com.colonygenesis.resource.ResourceType;
+
+import javafx.scene.paint.Color;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Display colours for model types. Kept in the UI layer so the simulation
+ * model has no JavaFX dependency.
+ */
+public final class Palette {
+    private static final Map<ResourceType, Color> RESOURCE_COLORS = new EnumMap<>(ResourceType.class);
+    private static final Map<TerrainType, Color> TERRAIN_COLORS = new EnumMap<>(TerrainType.class);
+
+    static {
+        RESOURCE_COLORS.put(ResourceType.FOOD, Color.GREEN);
+        RESOURCE_COLORS.put(ResourceType.ENERGY, Color.YELLOW);
+        RESOURCE_COLORS.put(ResourceType.MATERIALS, Color.BROWN);
+        RESOURCE_COLORS.put(ResourceType.WATER, Color.LIGHTBLUE);
+        RESOURCE_COLORS.put(ResourceType.RESEARCH, Color.PURPLE);
+        RESOURCE_COLORS.put(ResourceType.RARE_MINERALS, Color.SILVER);
+        RESOURCE_COLORS.put(ResourceType.ALIEN_COMPOUNDS, Color.MAGENTA);
+
+        TERRAIN_COLORS.put(TerrainType.PLAINS, Color.LIGHTGREEN);
+        TERRAIN_COLORS.put(TerrainType.MOUNTAINS, Color.GRAY);
+        TERRAIN_COLORS.put(TerrainType.FOREST, Color.DARKGREEN);
+        TERRAIN_COLORS.put(TerrainType.WATER, Color.LIGHTSKYBLUE);
+        TERRAIN_COLORS.put(TerrainType.DESERT, Color.SANDYBROWN);
+        TERRAIN_COLORS.put(TerrainType.TUNDRA, Color.LIGHTBLUE);
+    }
+
+    private Palette() {
+        // Static lookups only
+    }
+
+    /**
+     * Gets the colour a resource is shown in.
+     *
+     * @param type The resource type
+     * @return The display colour
+     */
+    public static Color colorOf(ResourceType type) {
+        return RESOURCE_COLORS.getOrDefault(type, Color.BLACK);
+    }
+
+    /**
+     * Gets the colour a terrain is filled with on the map.
+     *
+     * @param terrain The terrain type
+     * @return The display colour
+     */
+    public static Color colorOf(TerrainType terrain) {
+        return TERRAIN_COLORS.getOrDefault(terrain, Color.WHITE);
+    }
+}
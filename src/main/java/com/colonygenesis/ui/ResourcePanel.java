@@ -1,9 +1,9 @@
 package com.colonygenesis.ui;
 
 import com.colonygenesis.core.Game;
-import com.colonygenesis.event.EventBus;
 import com.colonygenesis.event.EventListener;
 import com.colonygenesis.event.GameEvent;
+import com.colonygenesis.event.SubscriptionScope;
 import com.colonygenesis.event.events.BuildingEvent;
 import com.colonygenesis.event.events.ResourceEvent;
 import com.colonygenesis.resource.ResourceType;
@@ -20,6 +20,7 @@ import javafx.scene.text.FontWeight;
 import org.kordamp.bootstrapfx.scene.layout.Panel;
 
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 
@@ -29,26 +30,37 @@ public class ResourcePanel extends Panel implements EventListener {
     private final Game game;
     private final GridPane resourceGrid;
     private final Map<ResourceType, Label> resourceLabels;
-    private final EventBus eventBus;
+    private final Map<ResourceType, Integer> amounts; // Latest amounts from resource events
+    private final Map<ResourceType, Long> amountSequences; // Sequence of the event each amount came from
+    private final Map<ResourceType, Integer> production; // Net production per turn
+    private final SubscriptionScope subscriptions;
 
     public ResourcePanel(Game game) {
         this.game = game;
-        this.eventBus = EventBus.getInstance();
+        this.subscriptions = new SubscriptionScope(game.getEventBus());
         this.resourceGrid = new GridPane();
         this.resourceLabels = new EnumMap<>(ResourceType.class);
+        this.amounts = new EnumMap<>(ResourceType.class);
+        this.amountSequences = new EnumMap<>(ResourceType.class);
+        this.production = new EnumMap<>(ResourceType.class);
 
-        // Register for events that affect resources
-        eventBus.register(this,
+        initializePanel();
+
+        // Register for events that affect resources. The bus replays the current
+        // amount of every resource, which fills in the labels.
+        subscriptions.register(this,
                 GameEvent.EventType.RESOURCE_CHANGED,
                 GameEvent.EventType.BUILDING_PLACED,
                 GameEvent.EventType.BUILDING_COMPLETED,
                 GameEvent.EventType.BUILDING_ACTIVATED,
                 GameEvent.EventType.BUILDING_DEACTIVATED,
-                GameEvent.EventType.BUILDING_REMOVED
+                GameEvent.EventType.BUILDING_REMOVED,
+                GameEvent.EventType.BUILDINGS_PLACED,
+                GameEvent.EventType.BUILDINGS_REMOVED,
+                GameEvent.EventType.BUILDINGS_ACTIVATED,
+                GameEvent.EventType.BUILDINGS_DEACTIVATED
         );
 
-        initializePanel();
-
         LOGGER.info("ResourcePanel initialized");
     }
 
@@ -66,7 +78,7 @@ public class ResourcePanel extends Panel implements EventListener {
 
             // Resource name
             Label nameLabel = new Label(type.getName() + ":");
-            nameLabel.setTextFill(type.getColor());
+            nameLabel.setTextFill(Palette.colorOf(type));
             nameLabel.setFont(Font.font("System", FontWeight.BOLD, 12));
 
             // Resource amount
@@ -83,15 +95,19 @@ public class ResourcePanel extends Panel implements EventListener {
         content.getChildren().add(resourceGrid);
         setBody(content);
         getStyleClass().add("panel-primary");
-
-        // Initial update
-        update(game.getResourceManager().getAllResources(), game.getResourceManager().getAllNetProduction());
     }
 
     public void update(Map<ResourceType, Integer> resources, Map<ResourceType, Integer> production) {
+        this.amounts.putAll(resources);
+        this.production.clear();
+        this.production.putAll(production);
+        render();
+    }
+
+    private void render() {
         for (ResourceType type : resourceLabels.keySet()) {
             Label label = resourceLabels.get(type);
-            int amount = resources.getOrDefault(type, 0);
+            int amount = amounts.getOrDefault(type, 0);
             int net = production.getOrDefault(type, 0);
 
             // Get capacity if applicable
@@ -129,36 +145,40 @@ public class ResourcePanel extends Panel implements EventListener {
 
     @Override
     public void onEvent(GameEvent event) {
+        onBatch(List.of(event));
+    }
+
+    /**
+     * Applies a batch of events and redraws the labels once.
+     */
+    @Override
+    public void onBatch(List<GameEvent> events) {
         Platform.runLater(() -> {
-            // Always recalculate net production for these events
-            boolean updateProduction = false;
-
-            switch (event.getType()) {
-                case RESOURCE_CHANGED:
-                    // Just update for the changed resources
-                    updateProduction = true;
-                    break;
-
-                case BUILDING_PLACED:
-                case BUILDING_COMPLETED:
-                case BUILDING_ACTIVATED:
-                case BUILDING_DEACTIVATED:
-                case BUILDING_REMOVED:
+            boolean buildingsChanged = false;
+
+            for (GameEvent event : events) {
+                if (event instanceof ResourceEvent resourceEvent) {
+                    // Resource events carry the new amount, so nothing needs to be pulled. The
+                    // replayed sticky amount can arrive after a newer event published on another
+                    // thread while this panel registered; the older one is ignored.
+                    ResourceType type = resourceEvent.getResourceType();
+                    if (resourceEvent.getSequence() >= amountSequences.getOrDefault(type, 0L)) {
+                        amounts.put(type, resourceEvent.getAmount());
+                        amountSequences.put(type, resourceEvent.getSequence());
+                    }
+                } else {
                     // Building changes affect production
-                    updateProduction = true;
-                    break;
+                    buildingsChanged = true;
+                }
             }
 
-            if (updateProduction) {
-                // Get the latest values
-                Map<ResourceType, Integer> resources = game.getResourceManager().getAllResources();
-
-                // Recalculate production based on current buildings
-                Map<ResourceType, Integer> production = game.getBuildingManager().calculateTotalProduction();
-
-                update(resources, production);
-                LOGGER.fine("Updated resource display due to " + event.getType());
+            if (buildingsChanged) {
+                production.clear();
+                production.putAll(game.getBuildingManager().calculateTotalProduction());
             }
+
+            render();
+            LOGGER.fine("Updated resource display for " + events.size() + " events");
         });
     }
 
@@ -171,9 +191,25 @@ public class ResourcePanel extends Panel implements EventListener {
             case BUILDING_ACTIVATED:
             case BUILDING_DEACTIVATED:
             case BUILDING_REMOVED:
+            case BUILDINGS_PLACED:
+            case BUILDINGS_REMOVED:
+            case BUILDINGS_ACTIVATED:
+            case BUILDINGS_DEACTIVATED:
                 return true;
             default:
                 return false;
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean isUiBound() {
+        return true;
+    }
+
+    /**
+     * Unregisters this panel from the event bus. Call when it is discarded.
+     */
+    public void dispose() {
+        subscriptions.close();
+    }
+}
@@ -3,11 +3,16 @@ package com.colonygenesis.ui;
 import com.colonygenesis.building.Building;
 import com.colonygenesis.controller.GameController;
 import com.colonygenesis.core.Game;
+import com.colonygenesis.core.TickScheduler;
+import com.colonygenesis.core.TickSnapshot;
 import com.colonygenesis.core.TurnPhase;
-import com.colonygenesis.event.EventBus;
-import com.colonygenesis.event.EventListener;
 import com.colonygenesis.event.GameEvent;
+import com.colonygenesis.event.SubscriptionScope;
+import com.colonygenesis.event.events.BuildingBatchEvent;
 import com.colonygenesis.event.events.BuildingEvent;
+import com.colonygenesis.event.events.BuildingStateChangedEvent;
+import com.colonygenesis.event.events.FastForwardEvent;
+import com.colonygenesis.event.events.GameStateEvent;
 import com.colonygenesis.event.events.ResourceEvent;
 import com.colonygenesis.event.events.TileEvent;
 import com.colonygenesis.event.events.TurnEvent;
@@ -18,6 +23,7 @@ import com.colonygenesis.ui.notification.NotificationType;
 import com.colonygenesis.util.LoggerUtils;
 import com.colonygenesis.util.Result;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
@@ -28,14 +34,17 @@ import javafx.scene.shape.Polygon;
 import org.kordamp.bootstrapfx.BootstrapFX;
 
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
-public class UserInterface extends BorderPane implements EventListener {
+public class UserInterface extends BorderPane {
     private static final Logger LOGGER = LoggerUtils.getLogger(UserInterface.class);
+    private static final int SKIPPED_TURNS = 10;
+    private static final double AUTO_PLAY_TURNS_PER_SECOND = 2.0;
 
     private final Game game;
     private final GameController gameController;
-    private final EventBus eventBus;
+    private final SubscriptionScope subscriptions;
     private final NotificationManager notificationManager;
 
     // UI Components
@@ -47,29 +56,33 @@ public class UserInterface extends BorderPane implements EventListener {
     private Label turnLabel;
     private Label phaseLabel;
     private Button nextPhaseButton;
+    private Button skipTurnsButton;
+    private ToggleButton autoPlayButton;
+    private ToggleButton pauseButton;
+    private AnimationTimer snapshotTimer;
     private Button undoButton;
     private Button redoButton;
 
     private Building selectedBuilding;
+    private long clockSequence; // Sequence of the last turn or phase event shown
 
     public UserInterface(Game game) {
         this.game = game;
         this.gameController = new GameController(game);
-        this.eventBus = EventBus.getInstance();
+        this.subscriptions = new SubscriptionScope(game.getEventBus());
         this.notificationManager = new NotificationManager();
 
-        // Register as an event listener
-        eventBus.register(this,
-                GameEvent.EventType.RESOURCE_CHANGED,
-                GameEvent.EventType.BUILDING_PLACED,
-                GameEvent.EventType.BUILDING_COMPLETED,
-                GameEvent.EventType.BUILDING_ACTIVATED,
-                GameEvent.EventType.BUILDING_DEACTIVATED,
-                GameEvent.EventType.TURN_ADVANCED,
-                GameEvent.EventType.PHASE_CHANGED,
-                GameEvent.EventType.TILE_UPDATED,
-                GameEvent.EventType.GAME_STATE_CHANGED
-        );
+        // Subscribe to the events the UI reacts to
+        subscribeOnFxThread(ResourceEvent.class, this::handleResourceChanged);
+        subscribeOnFxThread(BuildingEvent.class, this::handleBuildingPlaced, GameEvent.EventType.BUILDING_PLACED);
+        subscribeOnFxThread(BuildingEvent.class, this::handleBuildingCompleted, GameEvent.EventType.BUILDING_COMPLETED);
+        subscribeOnFxThread(BuildingStateChangedEvent.class, this::handleBuildingStatusChanged);
+        subscribeOnFxThread(BuildingBatchEvent.class, this::handleBuildingBatch);
+        subscribeOnFxThread(TurnEvent.class, this::handleTurnAdvanced, GameEvent.EventType.TURN_ADVANCED);
+        subscribeOnFxThread(TurnEvent.class, this::handlePhaseChanged, GameEvent.EventType.PHASE_CHANGED);
+        subscribeOnFxThread(TileEvent.class, this::handleTileUpdated);
+        subscribeOnFxThread(GameStateEvent.class, event -> updateDisplay());
+        subscribeOnFxThread(FastForwardEvent.class, this::handleFastForward);
 
         // Apply Bootstrap styling
         this.getStylesheets().add(BootstrapFX.bootstrapFXStylesheet());
@@ -81,8 +94,11 @@ public class UserInterface extends BorderPane implements EventListener {
     }
 
     public void initialize() {
+        // Components from an earlier initialization stop listening before they are replaced
+        disposeComponents();
+
         // Create map view
-        mapView = new MapView(game.getPlanet().getGrid());
+        mapView = new MapView(game.getPlanet().getGrid(), game.getEventBus());
         mapView.addEventHandler(com.colonygenesis.ui.TileEvent.TILE_SELECTED, this::handleTileSelected);
         mapView.addEventHandler(com.colonygenesis.ui.TileEvent.TILE_HOVER, this::handleTileHover);
         mapView.addEventHandler(com.colonygenesis.ui.TileEvent.TILE_ACTION, this::handleTileAction);
@@ -92,7 +108,7 @@ public class UserInterface extends BorderPane implements EventListener {
 
         // Create panels
         resourcePanel = new ResourcePanel(game);
-        infoPanel = new InfoPanel();
+        infoPanel = new InfoPanel(game.getEventBus());
         buildingPanel = new BuildingPanel(game);
         buildingDetailsPanel = new BuildingDetailsPanel();
 
@@ -125,6 +141,32 @@ public class UserInterface extends BorderPane implements EventListener {
         updateDisplay();
     }
 
+    /**
+     * Unregisters the interface and all of its components from the event bus.
+     * Call when the interface is discarded, e.g. before building a new one.
+     */
+    public void dispose() {
+        stopAutoPlay();
+        subscriptions.close();
+        disposeComponents();
+        LOGGER.info("UserInterface disposed");
+    }
+
+    private void disposeComponents() {
+        if (mapView != null) {
+            mapView.dispose();
+        }
+        if (resourcePanel != null) {
+            resourcePanel.dispose();
+        }
+        if (infoPanel != null) {
+            infoPanel.dispose();
+        }
+        if (buildingPanel != null) {
+            buildingPanel.dispose();
+        }
+    }
+
     private VBox createRightPanel() {
         VBox rightPanel = new VBox(10);
         rightPanel.getChildren().addAll(infoPanel, buildingDetailsPanel, buildingPanel);
@@ -157,7 +199,7 @@ public class UserInterface extends BorderPane implements EventListener {
         }
 
         // If we have a building selected, try to place it
-        if (selectedBuilding != null) {
+        if (selectedBuilding != null && !rejectWhileAutoPlaying()) {
             Result<?> result = gameController.placeBuilding(selectedBuilding, tile);
 
             if (result.isSuccess()) {
@@ -198,6 +240,31 @@ public class UserInterface extends BorderPane implements EventListener {
             }
         });
 
+        skipTurnsButton = new Button("Skip " + SKIPPED_TURNS + " Turns");
+        skipTurnsButton.getStyleClass().addAll("btn", "btn-secondary");
+        skipTurnsButton.setOnAction(e -> {
+            Result<FastForwardEvent> result = gameController.fastForward(SKIPPED_TURNS);
+
+            if (result.isFailure()) {
+                showNotification(result.getErrorMessage(), NotificationType.ERROR);
+            }
+        });
+
+        autoPlayButton = new ToggleButton("Auto Play");
+        autoPlayButton.getStyleClass().addAll("btn", "btn-secondary");
+        autoPlayButton.setOnAction(e -> {
+            if (autoPlayButton.isSelected()) {
+                startAutoPlay();
+            } else {
+                stopAutoPlay();
+            }
+        });
+
+        pauseButton = new ToggleButton("Pause");
+        pauseButton.getStyleClass().addAll("btn", "btn-secondary");
+        pauseButton.setDisable(true);
+        pauseButton.setOnAction(e -> game.setPaused(pauseButton.isSelected()));
+
         undoButton = new Button("Undo");
         undoButton.getStyleClass().addAll("btn", "btn-secondary");
         undoButton.setOnAction(e -> {
@@ -224,11 +291,77 @@ public class UserInterface extends BorderPane implements EventListener {
         });
         redoButton.setDisable(!gameController.canRedo());
 
-        controls.getChildren().addAll(turnLabel, phaseLabel, nextPhaseButton, undoButton, redoButton);
+        controls.getChildren().addAll(turnLabel, phaseLabel, nextPhaseButton, skipTurnsButton,
+                autoPlayButton, pauseButton, undoButton, redoButton);
 
         return controls;
     }
 
+    private void startAutoPlay() {
+        Result<TickScheduler> result = gameController.startAutoPlay(AUTO_PLAY_TURNS_PER_SECOND);
+        if (result.isFailure()) {
+            autoPlayButton.setSelected(false);
+            showNotification(result.getErrorMessage(), NotificationType.ERROR);
+            return;
+        }
+
+        // The simulation thread owns the game until auto-play stops
+        setTurnControlsDisabled(true);
+
+        TickScheduler scheduler = result.getValueOrNull();
+        snapshotTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                TickSnapshot snapshot = scheduler.pollSnapshot();
+                if (snapshot != null) {
+                    applySnapshot(snapshot);
+                }
+            }
+        };
+        snapshotTimer.start();
+    }
+
+    private void stopAutoPlay() {
+        if (snapshotTimer != null) {
+            snapshotTimer.stop();
+            snapshotTimer = null;
+        }
+        gameController.stopAutoPlay();
+        game.setPaused(false);
+        pauseButton.setSelected(false);
+        setTurnControlsDisabled(false);
+    }
+
+    private void setTurnControlsDisabled(boolean disabled) {
+        nextPhaseButton.setDisable(disabled);
+        skipTurnsButton.setDisable(disabled);
+        buildingPanel.setDisable(disabled);
+        pauseButton.setDisable(!disabled);
+        undoButton.setDisable(disabled || !gameController.canUndo());
+        redoButton.setDisable(disabled || !gameController.canRedo());
+    }
+
+    /**
+     * Turns away a building action while the simulation thread owns the game.
+     * Context menus stay open during auto-play, so their actions are checked
+     * here before they read or change any game state.
+     *
+     * @return true if the action must not run
+     */
+    private boolean rejectWhileAutoPlaying() {
+        if (!gameController.isAutoPlaying()) {
+            return false;
+        }
+        showNotification("Stop auto-play before changing the colony", NotificationType.WARNING);
+        return true;
+    }
+
+    private void applySnapshot(TickSnapshot snapshot) {
+        turnLabel.setText("Turn: " + snapshot.getTurnNumber());
+        phaseLabel.setText("Phase: " + snapshot.getPhase().getName());
+        resourcePanel.update(snapshot.getResources(), snapshot.getNetProduction());
+    }
+
     public void showNotification(String message, NotificationType type) {
         LOGGER.info("Notification: " + type + " - " + message);
         notificationManager.showNotification(message, type);
@@ -239,9 +372,10 @@ public class UserInterface extends BorderPane implements EventListener {
         turnLabel.setText("Turn: " + game.getCurrentTurn());
         phaseLabel.setText("Phase: " + game.getTurnManager().getCurrentPhase().getName());
 
-        // Update undo/redo buttons
-        undoButton.setDisable(!gameController.canUndo());
-        redoButton.setDisable(!gameController.canRedo());
+        // Update undo/redo buttons; they stay off while the simulation thread owns the game
+        boolean autoPlaying = gameController.isAutoPlaying();
+        undoButton.setDisable(autoPlaying || !gameController.canUndo());
+        redoButton.setDisable(autoPlaying || !gameController.canRedo());
 
         // Update resource panel
         resourcePanel.update(
@@ -259,6 +393,9 @@ public class UserInterface extends BorderPane implements EventListener {
     }
 
     private void handleTileAction(com.colonygenesis.ui.TileEvent event) {
+        if (rejectWhileAutoPlaying()) {
+            return;
+        }
         Tile tile = event.getTile();
         if (tile.hasBuilding() && tile.getBuilding().isCompleted()) {
             Building building = tile.getBuilding();
@@ -280,6 +417,9 @@ public class UserInterface extends BorderPane implements EventListener {
 
     // Add this method to UserInterface.java
     private void handleDemolishBuilding(BuildingActionEvent event) {
+        if (rejectWhileAutoPlaying()) {
+            return;
+        }
         Building building = event.getBuilding();
 
         // Create a confirmation dialog
@@ -350,6 +490,9 @@ public class UserInterface extends BorderPane implements EventListener {
     }
 
     private void handleToggleActive(BuildingActionEvent event) {
+        if (rejectWhileAutoPlaying()) {
+            return;
+        }
         Building building = event.getBuilding();
         boolean newState = !building.isActive();
 
@@ -372,50 +515,17 @@ public class UserInterface extends BorderPane implements EventListener {
         );
     }
 
-    @Override
-    public void onEvent(GameEvent event) {
-        // Ensure UI updates happen on the JavaFX thread
-        Platform.runLater(() -> {
-            switch (event.getType()) {
-                case RESOURCE_CHANGED:
-                    handleResourceChanged((ResourceEvent) event);
-                    break;
-                case BUILDING_PLACED:
-                    handleBuildingPlaced((BuildingEvent) event);
-                    break;
-                case BUILDING_COMPLETED:
-                    handleBuildingCompleted((BuildingEvent) event);
-                    break;
-                case BUILDING_ACTIVATED:
-                case BUILDING_DEACTIVATED:
-                    handleBuildingStatusChanged((BuildingEvent) event);
-                    break;
-                case TURN_ADVANCED:
-                    handleTurnAdvanced((TurnEvent) event);
-                    break;
-                case PHASE_CHANGED:
-                    handlePhaseChanged((TurnEvent) event);
-                    break;
-                case TILE_UPDATED:
-                    handleTileUpdated((TileEvent) event);
-                    break;
-                case GAME_STATE_CHANGED:
-                    // Handle game state changes
-                    updateDisplay();
-                    break;
-            }
-        });
+    /**
+     * Subscribes a handler that runs on the JavaFX thread.
+     */
+    private <E extends GameEvent> void subscribeOnFxThread(Class<E> eventClass, Consumer<E> handler,
+                                                           GameEvent.EventType... eventTypes) {
+        subscriptions.subscribeUi(eventClass, event -> Platform.runLater(() -> handler.accept(event)), eventTypes);
     }
 
     private void handleResourceChanged(ResourceEvent event) {
-        // Update resource display
-        resourcePanel.update(
-                game.getResourceManager().getAllResources(),
-                game.getResourceManager().getAllNetProduction()
-        );
-
-        // Show notification for significant changes
-        if (!event.isBulkUpdate() && event.getDelta() != 0) {
+        // The resource panel follows resource events itself; only notify about significant changes
+        if (event.getDelta() != 0) {
             ResourceType type = event.getResourceType();
             int delta = event.getDelta();
 
@@ -435,17 +545,34 @@ public class UserInterface extends BorderPane implements EventListener {
         mapView.renderGrid();
     }
 
+    private void handleBuildingBatch(BuildingBatchEvent event) {
+        // MapView re-renders the grid once for the whole batch
+        switch (event.getType()) {
+            case BUILDINGS_PLACED:
+                showNotification(event.size() + " buildings placed", NotificationType.SUCCESS);
+                break;
+            case BUILDINGS_REMOVED:
+                showNotification(event.size() + " buildings removed", NotificationType.INFO);
+                break;
+            case BUILDINGS_ACTIVATED:
+                showNotification(event.size() + " buildings activated", NotificationType.INFO);
+                break;
+            case BUILDINGS_DEACTIVATED:
+                showNotification(event.size() + " buildings deactivated", NotificationType.WARNING);
+                break;
+        }
+    }
+
     private void handleBuildingCompleted(BuildingEvent event) {
         showNotification(event.getBuilding().getName() + " construction completed!",
                 NotificationType.SUCCESS);
         mapView.renderTile(event.getTile());
     }
 
-    private void handleBuildingStatusChanged(BuildingEvent event) {
+    private void handleBuildingStatusChanged(BuildingStateChangedEvent event) {
         Building building = event.getBuilding();
-        boolean isActive = building.isActive();
 
-        if (isActive) {
+        if (event.isActive()) {
             showNotification(building.getName() + " activated", NotificationType.INFO);
         } else {
             showNotification(building.getName() + " deactivated", NotificationType.WARNING);
@@ -453,27 +580,54 @@ public class UserInterface extends BorderPane implements EventListener {
         mapView.renderTile(event.getTile());
     }
 
+    /**
+     * Checks that a turn or phase event is newer than the last one shown. A
+     * replayed sticky event can arrive after a newer one published on the
+     * simulation thread.
+     */
+    private boolean isLatestClockEvent(TurnEvent event) {
+        if (event.getSequence() < clockSequence) {
+            return false;
+        }
+        clockSequence = event.getSequence();
+        return true;
+    }
+
     private void handleTurnAdvanced(TurnEvent event) {
+        if (!isLatestClockEvent(event)) {
+            return;
+        }
         LOGGER.info("UI handling turn advanced event: " + event.getPreviousTurn() +
                 " → " + event.getTurnNumber());
 
         Platform.runLater(() -> {
             turnLabel.setText("Turn: " + event.getTurnNumber());
+            phaseLabel.setText("Phase: " + event.getPhase().getName());
             showNotification("Turn " + event.getTurnNumber() + " started", NotificationType.INFO);
         });
     }
 
     private void handlePhaseChanged(TurnEvent event) {
+        if (!isLatestClockEvent(event)) {
+            return;
+        }
         phaseLabel.setText("Phase: " + event.getPhase().getName());
     }
 
-    private void handleTileUpdated(TileEvent event) {
-        mapView.renderTile(event.getTile());
+    private void handleFastForward(FastForwardEvent event) {
+        // Nothing was delivered while the turns ran, so refresh everything once
+        updateDisplay();
+
+        String message = "Skipped to turn " + event.getToTurn();
+        if (event.getShortages() > 0) {
+            showNotification(message + " with " + event.getShortages() + " shortages", NotificationType.WARNING);
+        } else {
+            showNotification(message, NotificationType.INFO);
+        }
     }
 
-    @Override
-    public boolean isInterestedIn(GameEvent.EventType eventType) {
-        return true; // Interested in all events
+    private void handleTileUpdated(TileEvent event) {
+        mapView.renderTile(event.getTile());
     }
 
     private void setupBuildingContextMenu(Building building, Polygon hexagon) {
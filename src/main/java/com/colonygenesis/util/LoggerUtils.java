@@ -65,6 +65,18 @@ public final class LoggerUtils {
         return Logger.getLogger(clazz.getName());
     }
 
+    /**
+     * Sets the level of the root logger, e.g. to silence INFO output in batch runs.
+     *
+     * @param level The minimum level to log
+     */
+    public static synchronized void setLevel(Level level) {
+        if (!initialized) {
+            initialize();
+        }
+        Logger.getLogger("").setLevel(level);
+    }
+
     // Convenience methods
     public static void logDebug(Class<?> clazz, String message) {
         getLogger(clazz).fine(message);
@@ -6,7 +6,9 @@ module com.colonygenesis.colonygenesis {
     requires org.kordamp.ikonli.javafx;
     requires org.kordamp.bootstrapfx.core;
     requires java.logging;
+    requires java.management;
 
     opens com.colonygenesis.core to javafx.fxml;
     exports com.colonygenesis.core;
+    exports com.colonygenesis.event;
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.colonygenesis.building;
+
+import com.colonygenesis.core.Game;
+import com.colonygenesis.map.Planet;
+import com.colonygenesis.resource.ResourceManager;
+import com.colonygenesis.resource.ResourceType;
+import com.colonygenesis.util.LoggerUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that parallel turn processing produces the same game as processing
+ * on a single thread.
+ */
+class BuildingManagerParallelTest {
+    // BuildingManager only goes parallel from this many buildings
+    private static final int PARALLEL_THRESHOLD = 8_192;
+    private static final int SIZE = 120;
+    private static final long SEED = 11;
+    private static final int TURNS = 8;
+
+    @BeforeAll
+    static void quietLogs() {
+        LoggerUtils.setLevel(Level.SEVERE);
+    }
+
+    @Test
+    void parallelTurnsMatchSequentialTurns() {
+        Game sequential = playColony(false);
+        Game parallel = playColony(true);
+
+        assertTrue(sequential.getBuildingManager().getBuildings().size() >= PARALLEL_THRESHOLD,
+                "colony too small to take the parallel path");
+        assertEquals(TURNS, sequential.getTurnManager().getTurnHashes().length);
+        assertArrayEquals(sequential.getTurnManager().getTurnHashes(), parallel.getTurnManager().getTurnHashes());
+        assertEquals(sequential.getResourceManager().getAllResources(), parallel.getResourceManager().getAllResources());
+        assertEquals(sequential.getResourceManager().getAllNetProduction(),
+                parallel.getResourceManager().getAllNetProduction());
+    }
+
+    private static Game playColony(boolean parallelTurns) {
+        Game game = new Game();
+        game.initializeGame(SIZE, SIZE, SEED);
+
+        // Plenty of everything, so construction never stalls on costs
+        ResourceManager resources = game.getResourceManager();
+        for (ResourceType type : ResourceType.values()) {
+            resources.increaseCapacity(type, 100_000_000);
+            resources.addResource(type, 50_000_000);
+        }
+
+        BuildingManager buildings = game.getBuildingManager();
+        buildings.setParallelTurns(parallelTurns);
+        Planet planet = game.getPlanet();
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                buildings.placeBuilding(createBuilding(x * 7 + y), planet.getTileAt(x, y));
+            }
+        }
+
+        game.getTurnManager().advanceTurns(TURNS);
+        return game;
+    }
+
+    private static Building createBuilding(int index) {
+        switch (index % 3) {
+            case 0:
+                return BuildingFactory.createFarm();
+            case 1:
+                return BuildingFactory.createSolarPanel();
+            default:
+                return BuildingFactory.createMine();
+        }
+    }
+}
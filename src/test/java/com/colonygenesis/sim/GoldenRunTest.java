@@ -0,0 +1,71 @@
+package com.colonygenesis.sim;
+
+import com.colonygenesis.building.BuildingFactory;
+import com.colonygenesis.building.BuildingManager;
+import com.colonygenesis.core.Game;
+import com.colonygenesis.core.StateHash;
+import com.colonygenesis.map.Planet;
+import com.colonygenesis.util.LoggerUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Replays fixed headless games and checks that they stay reproducible.
+ *
+ * <p>The golden hash pins the final state of one seeded run. If a change is
+ * meant to alter the simulation, update it together with that change; if
+ * not, a mismatch means the change broke determinism.</p>
+ */
+class GoldenRunTest {
+    private static final long SEED = 7;
+    private static final int WIDTH = 30;
+    private static final int HEIGHT = 20;
+    private static final int TURNS = 200;
+    private static final String BUILD_ORDER =
+            "1:Habitation Dome@6,6;1:Farm@5,5;2:Water Extractor@5,6;2:Solar Panel@7,5";
+    private static final long GOLDEN_HASH = 0x43317b4f2a08dc27L;
+
+    @BeforeAll
+    static void quietLogs() {
+        LoggerUtils.setLevel(Level.SEVERE);
+    }
+
+    @Test
+    void incrementalHashMatchesRecomputedHash() {
+        HeadlessGameRunner runner = new HeadlessGameRunner(SEED, WIDTH, HEIGHT, TURNS, buildOrder());
+        Game game = runner.createGame();
+        BuildingManager buildings = game.getBuildingManager();
+        Planet planet = game.getPlanet();
+        assertTrue(buildings.placeBuilding(BuildingFactory.createHabitationDome(), planet.getTileAt(6, 6)).isSuccess());
+        assertTrue(buildings.placeBuilding(BuildingFactory.createFarm(), planet.getTileAt(5, 5)).isSuccess());
+
+        for (int turn = 1; turn <= TURNS; turn++) {
+            game.getTurnManager().advanceTurns(1);
+            assertEquals(StateHash.compute(game), game.getStateHash().getValue(), "turn " + turn);
+        }
+    }
+
+    @Test
+    void sameSeedRunsProduceIdenticalHashes() {
+        HeadlessGameRunner runner = new HeadlessGameRunner(SEED, WIDTH, HEIGHT, TURNS, buildOrder());
+        RunSummary first = runner.run();
+        RunSummary second = runner.run();
+
+        assertEquals(4, first.getBuildsPlaced());
+        assertEquals(TURNS, first.getTurnHashes().length);
+        assertArrayEquals(first.getTurnHashes(), second.getTurnHashes());
+        assertEquals(GOLDEN_HASH, first.getFinalHash(),
+                "golden hash " + Long.toHexString(GOLDEN_HASH) + ", got " + Long.toHexString(first.getFinalHash()));
+    }
+
+    private static List<BuildOrder> buildOrder() {
+        return BuildOrder.parse(BUILD_ORDER).getValueOrNull();
+    }
+}